@@ -0,0 +1,151 @@
+package musical;
+
+/**
+ * {@code ChordCheck} is a runnable check of the chords identified by {@link Chord.Recognizer}.
+ * <p/>
+ * Each case is a set of pitch classes with a bass, and the check fails if the recognized chord has a wrong mode, root, extensions, or inversion.
+ * The cases include seventh and sixth chords that share their tones with triads of other roots, such as minor seventh and sixth chords, in root position and in inversions.
+ * <p/>
+ * The check is run against the compiled sources, for example:
+ * <pre>
+ * javac -d out $(find java check -name '*.java')
+ * java -cp out musical.ChordCheck
+ * </pre>
+ * The process exits with status 1 if the check fails.
+ *
+ * @since 1.8
+ * @author Alireza Kamran
+ */
+public final
+class ChordCheck
+{
+    /** The pitch classes. */
+    private static final
+    int C = 0, D = 2, E = 4, F = 5, G = 7, A = 9, B = 11;
+
+    /** The number of checked cases. */
+    private static
+    int cases;
+
+    /** The number of failed cases. */
+    private static
+    int failures;
+
+    /**
+     * Creates a chord check.
+     */
+    private
+    ChordCheck() {}
+
+    /**
+     * Returns the pitch-class mask of the specified pitch classes.
+     *
+     * @param pitches the pitch classes.
+     *
+     * @return the mask.
+     */
+    private static
+    int mask(
+        final int... pitches
+        ) {
+        int mask = 0;
+        for (final int pitch : pitches)
+            mask |= 1 << Math.floorMod(pitch, 12);
+
+        return mask;
+    }
+
+    /**
+     * Recognizes the chord of the specified mask and bass, and counts a failure if it does not have the specified mode, root, extensions, and inversion.
+     *
+     * @param name the chord name.
+     * @param mask the pitch-class mask.
+     * @param bass the bass pitch class, or -1.
+     * @param mode the expected mode.
+     * @param root the expected root.
+     * @param extensions the expected extensions mask relative to the root.
+     * @param inversion the expected inversion, or -1.
+     */
+    private static
+    void check(
+        final String name,
+        final int mask,
+        final int bass,
+        final Chord.Mode mode,
+        final int root,
+        final int extensions,
+        final int inversion
+        ) {
+        cases++;
+        final Chord.Recognizer.Label chord = Chord.Recognizer.recognize(mask, bass);
+        if (chord == null || chord.getMode() != mode || chord.getRoot() != root || chord.getExtensions() != extensions || chord.getInversion() != inversion) {
+            failures++;
+            System.out.println(name + ": expected " + describe(mode, root, extensions, inversion) + ", found " + (chord == null
+                                                                                                 ? "null"
+                                                                                                 : describe(chord.getMode(), chord.getRoot(), chord.getExtensions(), chord.getInversion())));
+        }
+    }
+
+    /**
+     * Returns the description of the specified chord values.
+     *
+     * @param mode the mode.
+     * @param root the root.
+     * @param extensions the extensions mask.
+     * @param inversion the inversion.
+     *
+     * @return the description.
+     */
+    private static
+    String describe(
+        final Chord.Mode mode,
+        final int root,
+        final int extensions,
+        final int inversion
+        ) {
+        return mode + " root=" + root + " ext=" + Integer.toBinaryString(extensions) + " inv=" + inversion;
+    }
+
+    /**
+     * Runs the check.
+     *
+     * @param args the arguments, which are ignored.
+     */
+    public static
+    void main(
+        final String[] args
+        ) {
+        // Triads
+        check("C", mask(C, E, G), C, Chord.Mode.Major, C, 0, 0);
+        check("C/E", mask(C, E, G), E, Chord.Mode.Major, C, 0, 1);
+        check("Am", mask(A, C, E), A, Chord.Mode.Minor, A, 0, 0);
+        check("Dm/F", mask(D, F, A), F, Chord.Mode.Minor, D, 0, 1);
+
+        // Minor seventh chords
+        check("Am7", mask(A, C, E, G), A, Chord.Mode.Minor, A, 1 << 10, 0);
+        check("Am7 without bass", mask(A, C, E, G), -1, Chord.Mode.Minor, A, 1 << 10, -1);
+        check("Am7/E", mask(A, C, E, G), E, Chord.Mode.Minor, A, 1 << 10, 2);
+        check("Am7/G", mask(A, C, E, G), G, Chord.Mode.Minor, A, 1 << 10, 3);
+        check("Dm7", mask(D, F, A, C), D, Chord.Mode.Minor, D, 1 << 10, 0);
+        check("Em7", mask(E, G, B, D), E, Chord.Mode.Minor, E, 1 << 10, 0);
+
+        // Sixth chords, which share their tones with minor seventh chords
+        check("C6", mask(C, E, G, A), C, Chord.Mode.Major, C, 1 << 9, 0);
+        check("F6", mask(F, A, C, D), F, Chord.Mode.Major, F, 1 << 9, 0);
+
+        // Major seventh chords
+        check("Cmaj7", mask(C, E, G, B), C, Chord.Mode.Major, C, 1 << 11, 0);
+        check("Cmaj7/E", mask(C, E, G, B), E, Chord.Mode.Major, C, 1 << 11, 1);
+        check("Fmaj7", mask(F, A, C, E), F, Chord.Mode.Major, F, 1 << 11, 0);
+
+        // Dominant seventh chords
+        check("G7", mask(G, B, D, F), G, Chord.Mode.Dominant, G, 0, 0);
+        check("G7/B", mask(G, B, D, F), B, Chord.Mode.Dominant, G, 0, 1);
+
+        System.out.println(failures == 0
+                           ? "Chord check passed: " + cases + " cases"
+                           : "Chord check failed: " + failures + " of " + cases + " cases");
+        if (failures > 0)
+            System.exit(1);
+    }
+}
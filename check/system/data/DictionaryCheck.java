@@ -0,0 +1,169 @@
+package system.data;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * {@code DictionaryCheck} is a runnable stress check of concurrent additions and lookups in {@link Dictionary}.
+ * <p/>
+ * Writer threads add overlapping sets of keys that share prefixes, so that they race to add letters to the same nodes, while reader threads look keys up at the same time.
+ * Every key is then looked up again, before and after the dictionary is frozen, and the check fails if any key is lost or maps to a wrong value.
+ * <p/>
+ * The check is run against the compiled sources, for example:
+ * <pre>
+ * javac -d out $(find java check -name '*.java')
+ * java -cp out system.data.DictionaryCheck
+ * </pre>
+ * The process exits with status 1 if the check fails.
+ *
+ * @since 1.8
+ * @author Alireza Kamran
+ */
+public final
+class DictionaryCheck
+{
+    /** The number of writer threads. */
+    private static final
+    int Writers = 8;
+
+    /** The number of reader threads. */
+    private static final
+    int Readers = 4;
+
+    /** The number of keys. */
+    private static final
+    int Keys = 1 << 16;
+
+    /** The number of rounds. */
+    private static final
+    int Rounds = 10;
+
+    /**
+     * Creates a dictionary check.
+     */
+    private
+    DictionaryCheck() {}
+
+    /**
+     * Returns the key with the specified index.
+     * <p/>
+     * Keys are the base-36 digits of the index behind a shared prefix, so that many keys branch from the same nodes.
+     *
+     * @param i the index.
+     *
+     * @return the key.
+     */
+    private static
+    String key(
+        final int i
+        ) {
+        return "key" + Integer.toString(i, 36);
+    }
+
+    /**
+     * Runs one round of the check and returns the number of lost or wrong keys.
+     *
+     * @return the number of failures.
+     *
+     * @throws InterruptedException if the check is interrupted.
+     */
+    private static
+    int round()
+    throws InterruptedException {
+        final Dictionary<Integer> dictionary = new Dictionary<>();
+        final CountDownLatch start = new CountDownLatch(1);
+        final AtomicInteger wrong = new AtomicInteger();
+        final Thread[] threads = new Thread[Writers + Readers];
+        for (int t = 0; t < Writers; t++) {
+            final int offset = t;
+            threads[t] = new Thread(() -> {
+                await(start);
+                for (int i = offset; i < Keys; i += Writers / 2)
+                    dictionary.add(key(i), i);
+            });
+        }
+
+        for (int t = Writers; t < threads.length; t++)
+            threads[t] = new Thread(() -> {
+                await(start);
+                for (int i = 0; i < Keys; i++) {
+                    final Integer value = dictionary.find(key(i));
+                    if (value != null && value != i)
+                        wrong.incrementAndGet();
+                }
+            });
+
+        for (final Thread thread : threads)
+            thread.start();
+
+        start.countDown();
+        for (final Thread thread : threads)
+            thread.join();
+
+        int failures = wrong.get() + lost(dictionary);
+        dictionary.freeze();
+        failures += lost(dictionary);
+        return failures;
+    }
+
+    /**
+     * Returns the number of keys that are not found in the specified dictionary or map to a wrong value.
+     *
+     * @param dictionary the dictionary.
+     *
+     * @return the number of lost keys.
+     */
+    private static
+    int lost(
+        final Dictionary<Integer> dictionary
+        ) {
+        int lost = 0;
+        for (int i = 0; i < Keys; i++) {
+            final Integer value = dictionary.find(key(i));
+            if (value == null || value != i)
+                lost++;
+        }
+
+        return lost;
+    }
+
+    /**
+     * Waits for the specified latch, and restores the interrupt flag if interrupted.
+     *
+     * @param latch the latch.
+     */
+    private static
+    void await(
+        final CountDownLatch latch
+        ) {
+        try {
+            latch.await();
+        }
+        catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Runs the check.
+     *
+     * @param args the arguments, which are ignored.
+     *
+     * @throws InterruptedException if the check is interrupted.
+     */
+    public static
+    void main(
+        final String[] args
+        )
+    throws InterruptedException {
+        int failures = 0;
+        for (int r = 0; r < Rounds; r++)
+            failures += round();
+
+        System.out.println(failures == 0
+                           ? "Dictionary check passed: " + Rounds + " rounds of " + Keys + " keys"
+                           : "Dictionary check failed: " + failures + " lost or wrong keys");
+        if (failures > 0)
+            System.exit(1);
+    }
+}
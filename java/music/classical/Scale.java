@@ -1,13 +1,24 @@
 package music.classical;
 
+import static system.data.Constant.StandardObjectInoperable;
+
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Iterator;
+import java.util.List;
 import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.PrimitiveIterator;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
 import java.util.function.BiConsumer;
 import java.util.function.BiFunction;
 import java.util.function.Consumer;
 
 import musical.Constant;
 import musical.Interval;
+import musical.NoteArray;
 import musical.Standardized;
 
 /**
@@ -215,6 +226,10 @@ implements
         MajorSecond   // T
         );
 
+    /** The immutable notes of the standard scales without adjustments, by scale symbol and root. */
+    private static final
+    ConcurrentHashMap<String, musical.Note[]> Tunings = new ConcurrentHashMap<>();
+
     /** The scale symbol. */
     protected
     String symbol;
@@ -227,6 +242,10 @@ implements
     protected
     Number[] adjustments;
 
+    /** The immutable notes of the scale for the root, intervals, and adjustments they were created for, or null. */
+    private volatile
+    Tuned tuned;
+
     /**
      * Creates a scale with the specified symbol, root note, intervals, and interval adjustments, and adjusts the scale.
      *
@@ -468,9 +487,32 @@ implements
     @Override
     public musical.Note convert() { return null; }
 
+    /**
+     * Returns the scale note at the specified index, as the root moved by the semitones of the intervals before the index.
+     *
+     * @param i the index.
+     * @return the note.
+     */
     @Override
     public musical.Note getNote(final Number i) {
-        return new Note(root.getNumber() + i.shortValue()) ;
+        final int n = i.intValue();
+        int semitones = 0;
+        for (int j = 0; j < n && j < intervals.length; j++)
+            semitones += intervals[j].getSemitones();
+
+        return new Note(root.getNumber() + semitones);
+    }
+
+    /**
+     * Returns a new cursor over the note numbers of the scale.
+     *
+     * @return the cursor.
+     *
+     * @see Cursor
+     */
+    public
+    Cursor cursor() {
+        return new Cursor(this);
     }
 
     /**
@@ -478,40 +520,96 @@ implements
      * <p/>
      * The number of returned notes is exactly one plus the number of the intervals in the scale.
      * <p/>
-     * This implementation creates notes with empty adjustment functions.
+     * The returned notes are immutable and are created once for the current root, intervals, and adjustments of the scale, and shared by all its iterators.
+     * Standard scales without adjustments also share their notes with other standard scales of the same symbol and root.
+     * The notes throw an {@code UnsupportedOperationException} if modified; clone a note to modify it.
+     * Use {@link #cursor()} to walk the note numbers of the scale without notes.
      *
      * @return the iterator over scale notes.
      */
     @Override
     public Iterator<musical.Note> iterator() {
+        final musical.Note[] notes = getTuned();
         return new Iterator<musical.Note>() {
-            private Note note;
-            private int step = -1;
+            private int step;
 
             @Override
             public boolean hasNext() {
-                return step < Scale.this.intervals.length;
+                return step < notes.length;
             }
 
             @Override
-            public Note next() {
-                step++;
-                if (step == 0)
-                    note = new Note(root);
-
-                else if (step - 1 < intervals.length) {
-                    note = new Note(note.getNumber() + intervals[step - 1].getSemitones());
-                    if (adjustments != null && step - 1 < adjustments.length)
-                        note.setAdjustment(adjustments[step - 1]);
-                }
-                else
+            public musical.Note next() {
+                if (step >= notes.length)
                     throw new NoSuchElementException("There are no more notes in the scale.");
 
-                return note;
+                return notes[step++];
             }
         };
     }
 
+    /**
+     * Returns the immutable notes of the scale, and creates them if the root, intervals, or adjustments of the scale have changed since they were last created.
+     * <p/>
+     * The notes are published without locking; concurrent callers may create equal notes more than once.
+     *
+     * @return the immutable notes.
+     */
+    private
+    musical.Note[] getTuned() {
+        Tuned tuned = this.tuned;
+        if (tuned == null || !tuned.isFor(this)) {
+            final String key = isStandard() && symbol != null && root.getOctave() != null && root.getAdjustment() == 0 && !hasAdjustments(adjustments)
+                               ? symbol + ' ' + root
+                               : null;
+
+            musical.Note[] notes = key == null
+                                   ? null
+                                   : Tunings.get(key);
+
+            if (notes == null) {
+                notes = new musical.Note[intervals.length + 1];
+                Note note = new Note(root);
+                notes[0] = new Fixed(note);
+                for (int i = 0; i < intervals.length; i++) {
+                    note = new Note(note.getNumber() + intervals[i].getSemitones());
+                    if (adjustments != null && i < adjustments.length)
+                        note.setAdjustment(adjustments[i]);
+
+                    notes[i + 1] = new Fixed(note);
+                }
+
+                if (key != null) {
+                    final musical.Note[] shared = Tunings.putIfAbsent(key, notes);
+                    if (shared != null)
+                        notes = shared;
+                }
+            }
+
+            this.tuned = tuned = new Tuned(this, notes);
+        }
+
+        return tuned.notes;
+    }
+
+    /**
+     * Returns true if any of the specified adjustments is not zero, and false otherwise.
+     *
+     * @param adjustments the adjustments.
+     * @return true if there is an adjustment, and false otherwise.
+     */
+    private static
+    boolean hasAdjustments(
+        final Number[] adjustments
+        ) {
+        if (adjustments != null)
+            for (final Number adjustment : adjustments)
+                if (adjustment != null && adjustment.doubleValue() != 0)
+                    return true;
+
+        return false;
+    }
+
     /**
      * Returns true if this scale is standard; otherwise returns false.
      *
@@ -553,10 +651,25 @@ implements
         this.root = root;
     }
 
+    /**
+     * Returns the scale interval at the specified index, without copying the intervals array.
+     *
+     * @param i the index.
+     * @return the interval.
+     * @throws ArrayIndexOutOfBoundsException if the index is out of range.
+     */
+    public
+    Interval getInterval(
+        final int i
+        ) {
+        return intervals[i];
+    }
+
     /**
      * Returns the scale intervals array.
      * <p/>
      * This implementation returns a new copy of the array.
+     * Use {@link #getInterval(int)} or {@link #cursor()} to read the intervals without copying.
      *
      * @return the intervals array.
      */
@@ -585,6 +698,837 @@ implements
                          : adjustments;
     }
 
+    /**
+     * {@code Cursor} iterates over the note numbers of a scale without creating notes.
+     * <p/>
+     * The first number is the root number, rounded, and each following number adds the semitones of the next interval.
+     * The adjustment of the current note is the root adjustment for the root, and the scale interval adjustment before the note for the other notes.
+     * <p/>
+     * A cursor can be reset to the start of its scale, or to another scale, so that a single cursor can walk scales repeatedly without allocation.
+     * <p/>
+     * Methods in this class implementation are not thread-safe.
+     *
+     * @since 1.8
+     * @author Alireza Kamran
+     */
+    public static final
+    class Cursor
+    implements PrimitiveIterator.OfInt
+    {
+        /** The scale. */
+        private
+        Scale scale;
+
+        /** The index of the next note. */
+        private
+        int step;
+
+        /** The current note number. */
+        private
+        int number;
+
+        /** The current note adjustment in cents. */
+        private
+        int adjustment;
+
+        /**
+         * Creates a cursor at the start of the specified scale.
+         *
+         * @param scale the scale.
+         *
+         * @throws NullPointerException if the scale is null.
+         * @throws IllegalStateException if the scale has a null root.
+         */
+        public
+        Cursor(
+            final Scale scale
+            ) {
+            reset(scale);
+        }
+
+        /**
+         * Returns the adjustment of the current note in cents.
+         *
+         * @return the adjustment.
+         */
+        public
+        int getAdjustment() {
+            return adjustment;
+        }
+
+        /**
+         * Returns the index of the current note, or -1 if no note has been returned.
+         *
+         * @return the index.
+         */
+        public
+        int getIndex() {
+            return step - 1;
+        }
+
+        /**
+         * Returns the scale.
+         *
+         * @return the scale.
+         */
+        public
+        Scale getScale() {
+            return scale;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return step <= scale.intervals.length;
+        }
+
+        /**
+         * Returns the number of the next note, and moves the cursor to it.
+         *
+         * @return the note number.
+         *
+         * @throws NoSuchElementException if there are no more notes in the scale.
+         */
+        @Override
+        public int nextInt() {
+            if (step > scale.intervals.length)
+                throw new NoSuchElementException("There are no more notes in the scale.");
+
+            if (step == 0) {
+                number = Math.round(scale.root.getNumber());
+                adjustment = scale.root.getAdjustment();
+            }
+            else {
+                number += scale.intervals[step - 1].getSemitones();
+                adjustment = scale.getAdjustment(step - 1);
+            }
+
+            step++;
+            return number;
+        }
+
+        /**
+         * Moves the cursor to the start of its scale.
+         *
+         * @throws IllegalStateException if the scale has a null root.
+         */
+        public
+        void reset() {
+            if (scale.root == null)
+                throw new IllegalStateException();
+
+            step = 0;
+            number = 0;
+            adjustment = 0;
+        }
+
+        /**
+         * Moves the cursor to the start of the specified scale.
+         *
+         * @param scale the scale.
+         *
+         * @throws NullPointerException if the scale is null.
+         * @throws IllegalStateException if the scale has a null root.
+         */
+        public
+        void reset(
+            final Scale scale
+            ) {
+            if (scale == null)
+                throw new NullPointerException();
+
+            this.scale = scale;
+            reset();
+        }
+    }
+
+    /**
+     * {@code Detector} infers the keys of a passage by comparing the pitch-class histograms of its time windows with profiles of the standard scales.
+     * <p/>
+     * Every window is scored against every standard scale, except the chromatic scale, on all 12 roots.
+     * The score is the correlation of the duration-weighted histogram with the scale profile rotated to the root.
+     * The major and minor scales use the Krumhansl-Kessler key profiles, and the other scales use their pitch-class masks with a doubled tonic.
+     * Ties are broken by the weight of the histogram inside the scale mask.
+     * <p/>
+     * Windows are scored in parallel on a fork/join pool, and consecutive windows with the same key are merged into a single key in the returned timeline.
+     * <p/>
+     * All methods in this class implementation are thread-safe.
+     *
+     * @since 1.8
+     * @author Alireza Kamran
+     */
+    public static final
+    class Detector
+    {
+        /** The number of windows below which a task scores its windows without forking. */
+        private static final
+        int Threshold = 16;
+
+        /** The scored standard scales. */
+        private static final
+        Scale[] Scales = { Major, Dorian, Phrygian, Lydian, Mixolydian, Minor, Locrian, WholeTone, MajorPentatonic, MinorPentatonic, Egyptian, BluesMajor, BluesMinor };
+
+        /** The Krumhansl-Kessler major key profile. */
+        private static final
+        double[] MajorProfile = { 6.35, 2.23, 3.48, 2.33, 4.38, 4.09, 2.52, 5.19, 2.39, 3.66, 2.29, 2.88 };
+
+        /** The Krumhansl-Kessler minor key profile. */
+        private static final
+        double[] MinorProfile = { 6.33, 2.68, 3.52, 5.38, 2.60, 3.53, 2.54, 4.75, 3.98, 2.69, 3.34, 3.17 };
+
+        /** The pitches of the key roots, for each pitch class. */
+        private static final
+        musical.Note.Pitch[] Pitches = { musical.Note.Pitch.C, musical.Note.Pitch.D, musical.Note.Pitch.D, musical.Note.Pitch.E, musical.Note.Pitch.E, musical.Note.Pitch.F, musical.Note.Pitch.F, musical.Note.Pitch.G, musical.Note.Pitch.A, musical.Note.Pitch.A, musical.Note.Pitch.B, musical.Note.Pitch.B };
+
+        /** The accidentals of the key roots, for each pitch class. */
+        private static final
+        musical.Note.Accidental[] Accidentals = { musical.Note.Accidental.Natural, musical.Note.Accidental.Flat, musical.Note.Accidental.Natural, musical.Note.Accidental.Flat, musical.Note.Accidental.Natural, musical.Note.Accidental.Natural, musical.Note.Accidental.Sharp, musical.Note.Accidental.Natural, musical.Note.Accidental.Flat, musical.Note.Accidental.Natural, musical.Note.Accidental.Flat, musical.Note.Accidental.Natural };
+
+        /** The normalized profiles of the scored scales, with zero mean and unit norm. */
+        private static final
+        double[][] Profiles = new double[Scales.length][];
+
+        static {
+            for (int s = 0; s < Scales.length; s++) {
+                final double[] profile;
+                if (Scales[s] == Major)
+                    profile = MajorProfile.clone();
+                else
+                    if (Scales[s] == Minor)
+                    profile = MinorProfile.clone();
+                else {
+                    profile = new double[12];
+                    for (int k = 0; k < 12; k++)
+                        if ((Scales[s].mask & 1 << k) != 0)
+                            profile[k] = 1;
+
+                    profile[0] = 2;
+                }
+
+                double mean = 0;
+                for (final double p : profile)
+                    mean += p / 12;
+
+                double norm = 0;
+                for (int k = 0; k < 12; k++) {
+                    profile[k] -= mean;
+                    norm += profile[k] * profile[k];
+                }
+
+                norm = Math.sqrt(norm);
+                for (int k = 0; k < 12; k++)
+                    profile[k] /= norm;
+
+                Profiles[s] = profile;
+            }
+        }
+
+        /** The fork/join pool. */
+        private final
+        ForkJoinPool pool;
+
+        /**
+         * Creates a detector that runs on the common fork/join pool.
+         */
+        public
+        Detector() {
+            this(ForkJoinPool.commonPool());
+        }
+
+        /**
+         * Creates a detector that runs on the specified fork/join pool.
+         *
+         * @param pool the fork/join pool.
+         *
+         * @throws NullPointerException if the pool is null.
+         */
+        public
+        Detector(
+            final ForkJoinPool pool
+            ) {
+            if (pool == null)
+                throw new NullPointerException();
+
+            this.pool = pool;
+        }
+
+        /**
+         * Returns the key timeline of the specified notes, scored in windows of the specified length.
+         * <p/>
+         * The onsets and durations are in whole notes and are indexed the same as the notes, and the onsets must not decrease.
+         * Each note adds the part of its duration that overlaps a window to the histogram of that window.
+         * Windows without notes have no key and separate the keys before and after them.
+         *
+         * @param notes the notes.
+         * @param onsets the note onsets.
+         * @param durations the note durations.
+         * @param window the window length.
+         *
+         * @return the keys in order of time.
+         *
+         * @throws NullPointerException if any of the arguments is null.
+         * @throws IllegalArgumentException if the window length is not positive, or the onsets or durations are fewer than the notes.
+         */
+        public
+        List<Key> detect(
+            final NoteArray notes,
+            final double[] onsets,
+            final double[] durations,
+            final double window
+            ) {
+            final int size = notes.size();
+            if (!(window > 0) || onsets.length < size || durations.length < size)
+                throw new IllegalArgumentException();
+
+            double end = 0;
+            double longest = 0;
+            for (int i = 0; i < size; i++) {
+                end = Math.max(end, onsets[i] + durations[i]);
+                longest = Math.max(longest, durations[i]);
+            }
+
+            final int count = (int) Math.ceil(end / window);
+            final int[] keys = new int[count];
+            final double[] scores = new double[count];
+            pool.invoke(new Windows(notes.getNumbers(), onsets, durations, size, window, longest, keys, scores, 0, count));
+
+            final List<Key> timeline = new ArrayList<>();
+            for (int w = 0; w < count;) {
+                final int key = keys[w];
+                final int first = w;
+                double score = 0;
+                for (; w < count && keys[w] == key; w++)
+                    score += scores[w];
+
+                if (key >= 0)
+                    timeline.add(new Key(Scales[key / 12], key % 12, first * window, Math.min(w * window, end), score / (w - first)));
+            }
+
+            return timeline;
+        }
+
+        /**
+         * Returns the best key for the specified pitch-class histogram, or null if the histogram is uniform.
+         *
+         * @param histogram the 12 pitch-class weights, starting with C.
+         *
+         * @return the key, or null.
+         *
+         * @throws NullPointerException if the histogram is null.
+         * @throws IllegalArgumentException if the histogram does not have 12 elements.
+         */
+        public static
+        Key detect(
+            final double[] histogram
+            ) {
+            if (histogram.length != 12)
+                throw new IllegalArgumentException();
+
+            final double[] score = new double[1];
+            final int key = score(histogram, score);
+            return key < 0
+                   ? null
+                   : new Key(Scales[key / 12], key % 12, 0, 0, score[0]);
+        }
+
+        /**
+         * Scores the specified histogram against all scales and roots, writes the best score to the output array, and returns the best key as the scale index times 12 plus the root pitch class; or returns -1 if the histogram is uniform.
+         *
+         * @param histogram the histogram.
+         * @param score the best score output array.
+         *
+         * @return the best key, or -1.
+         */
+        private static
+        int score(
+            final double[] histogram,
+            final double[] score
+            ) {
+            double mean = 0;
+            for (final double h : histogram)
+                mean += h / 12;
+
+            double norm = 0;
+            for (final double h : histogram)
+                norm += (h - mean) * (h - mean);
+
+            if (!(norm > 0))
+                return -1;
+
+            norm = Math.sqrt(norm);
+            int best = -1;
+            double bestScore = 0;
+            double bestCoverage = 0;
+            for (int s = 0; s < Scales.length; s++) {
+                final double[] profile = Profiles[s];
+                final int mask = Scales[s].mask & 0xFFF;
+                for (int root = 0; root < 12; root++) {
+                    double r = 0;
+                    for (int k = 0; k < 12; k++)
+                        r += histogram[(k + root) % 12] * profile[k];
+
+                    r /= norm;
+                    if (best >= 0 && r < bestScore)
+                        continue;
+
+                    double coverage = 0;
+                    for (int bits = mask; bits != 0; bits &= bits - 1)
+                        coverage += histogram[(Integer.numberOfTrailingZeros(bits) + root) % 12];
+
+                    if (best < 0 || r > bestScore || coverage > bestCoverage) {
+                        best = s * 12 + root;
+                        bestScore = r;
+                        bestCoverage = coverage;
+                    }
+                }
+            }
+
+            score[0] = bestScore;
+            return best;
+        }
+
+        /**
+         * {@code Key} represents a key detected over a time span, as a standard scale on a root.
+         *
+         * @since 1.8
+         * @author Alireza Kamran
+         */
+        public static final
+        class Key
+        {
+            /** The standard scale. */
+            private final
+            Scale standard;
+
+            /** The root pitch class. */
+            private final
+            int tonic;
+
+            /** The start time in whole notes. */
+            private final
+            double start;
+
+            /** The end time in whole notes. */
+            private final
+            double end;
+
+            /** The mean correlation score. */
+            private final
+            double score;
+
+            /**
+             * Creates a key with the specified standard scale, root pitch class, time span, and score.
+             *
+             * @param standard the standard scale.
+             * @param tonic the root pitch class.
+             * @param start the start time.
+             * @param end the end time.
+             * @param score the score.
+             */
+            private
+            Key(
+                final Scale standard,
+                final int tonic,
+                final double start,
+                final double end,
+                final double score
+                ) {
+                this.standard = standard;
+                this.tonic = tonic;
+                this.start = start;
+                this.end = end;
+                this.score = score;
+            }
+
+            /**
+             * Returns the end time in whole notes.
+             *
+             * @return the end time.
+             */
+            public
+            double getEnd() {
+                return end;
+            }
+
+            /**
+             * Returns a new scale of the key, with a root without octave; suitable as the result of {@link musical.Interpreted#findKey()}.
+             *
+             * @return the scale.
+             */
+            public
+            Scale getScale() {
+                return new Standard(standard.symbol, standard.new Note((Number) null, Pitches[tonic], Accidentals[tonic]), standard.intervals);
+            }
+
+            /**
+             * Returns the mean correlation score of the windows of the key, between -1 and 1.
+             *
+             * @return the score.
+             */
+            public
+            double getScore() {
+                return score;
+            }
+
+            /**
+             * Returns the standard scale of the key, without root.
+             *
+             * @return the standard scale.
+             */
+            public
+            Scale getStandard() {
+                return standard;
+            }
+
+            /**
+             * Returns the start time in whole notes.
+             *
+             * @return the start time.
+             */
+            public
+            double getStart() {
+                return start;
+            }
+
+            /**
+             * Returns the root pitch class, between 0 for C and 11 for B.
+             *
+             * @return the root pitch class.
+             */
+            public
+            int getTonic() {
+                return tonic;
+            }
+
+            @Override
+            public String toString() {
+                return Pitches[tonic].toString() + Accidentals[tonic].getSymbol() + " " + standard.symbol + " [" + start + ", " + end + ")";
+            }
+        }
+
+        /**
+         * {@code Windows} is the fork/join task that scores a range of windows.
+         *
+         * @since 1.8
+         * @author Alireza Kamran
+         */
+        private static final
+        class Windows
+        extends RecursiveAction
+        {
+            /** The serial version UID. */
+            private static final
+            long serialVersionUID = 1L;
+
+            /** The note numbers. */
+            private final
+            short[] numbers;
+
+            /** The note onsets. */
+            private final
+            double[] onsets;
+
+            /** The note durations. */
+            private final
+            double[] durations;
+
+            /** The number of notes. */
+            private final
+            int size;
+
+            /** The window length. */
+            private final
+            double window;
+
+            /** The longest note duration. */
+            private final
+            double longest;
+
+            /** The best keys output array. */
+            private final
+            int[] keys;
+
+            /** The best scores output array. */
+            private final
+            double[] scores;
+
+            /** The first window, inclusive. */
+            private final
+            int from;
+
+            /** The last window, exclusive. */
+            private final
+            int to;
+
+            /**
+             * Creates a task for the specified range of windows.
+             *
+             * @param numbers the note numbers.
+             * @param onsets the note onsets.
+             * @param durations the note durations.
+             * @param size the number of notes.
+             * @param window the window length.
+             * @param longest the longest note duration.
+             * @param keys the best keys output array.
+             * @param scores the best scores output array.
+             * @param from the first window, inclusive.
+             * @param to the last window, exclusive.
+             */
+            Windows(
+                final short[] numbers,
+                final double[] onsets,
+                final double[] durations,
+                final int size,
+                final double window,
+                final double longest,
+                final int[] keys,
+                final double[] scores,
+                final int from,
+                final int to
+                ) {
+                this.numbers = numbers;
+                this.onsets = onsets;
+                this.durations = durations;
+                this.size = size;
+                this.window = window;
+                this.longest = longest;
+                this.keys = keys;
+                this.scores = scores;
+                this.from = from;
+                this.to = to;
+            }
+
+            @Override
+            protected void compute() {
+                if (to - from > Threshold) {
+                    final int middle = (from + to) >>> 1;
+                    invokeAll(new Windows(numbers, onsets, durations, size, window, longest, keys, scores, from, middle),
+                              new Windows(numbers, onsets, durations, size, window, longest, keys, scores, middle, to));
+                    return;
+                }
+
+                final double[] histogram = new double[12];
+                final double[] score = new double[1];
+                for (int w = from; w < to; w++) {
+                    final double start = w * window;
+                    final double end = start + window;
+                    Arrays.fill(histogram, 0);
+
+                    int i = Arrays.binarySearch(onsets, 0, size, start - longest);
+                    if (i < 0)
+                        i = -i - 1;
+
+                    while (i > 0 && onsets[i - 1] >= start - longest)
+                        i--;
+
+                    for (; i < size && onsets[i] < end; i++) {
+                        final double overlap = Math.min(end, onsets[i] + durations[i]) - Math.max(start, onsets[i]);
+                        if (overlap > 0)
+                            histogram[Math.floorMod(numbers[i], 12)] += overlap;
+                    }
+
+                    keys[w] = score(histogram, score);
+                    scores[w] = score[0];
+                }
+            }
+        }
+    }
+
+    /**
+     * {@code Fixed} represents the immutable notes returned by scale iterators.
+     * <p/>
+     * All modifying methods throw an {@code UnsupportedOperationException}, and the methods that return a modified note modify and return a clone.
+     *
+     * @since 1.8
+     * @author Alireza Kamran
+     */
+    private static final
+    class Fixed
+    extends musical.Note
+    {
+        /** The serial version UID. */
+        private static final
+        long serialVersionUID = 1L;
+
+        /** The flag indicating if the note is created and can no longer be modified. */
+        private
+        boolean fixed;
+
+        /**
+         * Creates an immutable note equal to the specified note.
+         *
+         * @param note the note.
+         */
+        Fixed(
+            final musical.Note note
+            ) {
+            super(note.getSymbol(), note.getOctave(), note.getPitch(), note.getAccidental(), note.getAdjustment());
+            fixed = true;
+        }
+
+        /**
+         * Throws an {@code UnsupportedOperationException} if the note is created.
+         *
+         * @throws UnsupportedOperationException if the note is created.
+         */
+        private
+        void check() {
+            if (fixed)
+                throw new UnsupportedOperationException(StandardObjectInoperable);
+        }
+
+        /**
+         * This implementation throws an {@code UnsupportedOperationException}.
+         */
+        @Override
+        public void add(final Number n) {
+            check();
+            super.add(n);
+        }
+
+        /**
+         * This implementation throws an {@code UnsupportedOperationException} once the note is created.
+         */
+        @Override
+        public void adjust() {
+            check();
+            super.adjust();
+        }
+
+        /**
+         * Clones this note and adjusts the copy with the specified adjustments, and returns the copy.
+         *
+         * @param adjustments the adjustments.
+         *
+         * @return the adjusted copy.
+         */
+        @Override
+        public musical.Note adjusted(final Number... adjustments) {
+            return clone().adjusted(adjustments);
+        }
+
+        /**
+         * This implementation throws an {@code UnsupportedOperationException}.
+         */
+        @Override
+        public void invert() {
+            check();
+            super.invert();
+        }
+
+        /**
+         * Clones this note and inverts the copy, and returns the copy.
+         *
+         * @return the inverted copy.
+         */
+        @Override
+        public musical.Note inverted() {
+            return clone().inverted();
+        }
+
+        /**
+         * Clones this note and subtracts the specified number of cents from the copy, and returns the copy.
+         *
+         * @param n the number.
+         *
+         * @return the subtracted copy.
+         *
+         * @throws NullPointerException if the number is null.
+         */
+        @Override
+        public musical.Note minus(final Number n) {
+            return clone().minus(n);
+        }
+
+        /**
+         * Clones this note and adds the specified number of cents to the copy, and returns the copy.
+         *
+         * @param n the number.
+         *
+         * @return the added copy.
+         *
+         * @throws NullPointerException if the number is null.
+         */
+        @Override
+        public musical.Note plus(final Number n) {
+            return clone().plus(n);
+        }
+
+        /**
+         * This implementation throws an {@code UnsupportedOperationException}.
+         */
+        @Override
+        public void unadjust() {
+            check();
+            super.unadjust();
+        }
+
+        /**
+         * Returns this note if it has no adjustment, or an unadjusted clone otherwise.
+         *
+         * @return the unadjusted note.
+         */
+        @Override
+        public musical.Note unadjusted() {
+            return adjustment == 0
+                   ? this
+                   : clone().unadjusted();
+        }
+
+        /**
+         * This implementation throws an {@code UnsupportedOperationException}.
+         */
+        @Override
+        public void setAccidental(final Accidental accidental) {
+            check();
+            super.setAccidental(accidental);
+        }
+
+        /**
+         * This implementation throws an {@code UnsupportedOperationException}.
+         */
+        @Override
+        public void setAdjustment(final Number adjustment) {
+            check();
+            super.setAdjustment(adjustment);
+        }
+
+        /**
+         * This implementation throws an {@code UnsupportedOperationException}.
+         */
+        @Override
+        public void setOctave(final Byte octave) {
+            check();
+            super.setOctave(octave);
+        }
+
+        /**
+         * This implementation throws an {@code UnsupportedOperationException}.
+         */
+        @Override
+        public void setOctave(final Octave octave) {
+            check();
+            super.setOctave(octave);
+        }
+
+        /**
+         * This implementation throws an {@code UnsupportedOperationException}.
+         */
+        @Override
+        public void setPitch(final Pitch pitch) {
+            check();
+            super.setPitch(pitch);
+        }
+
+        /**
+         * This implementation throws an {@code UnsupportedOperationException}.
+         */
+        @Override
+        public void setSymbol(final String symbol) {
+            check();
+            super.setSymbol(symbol);
+        }
+    }
+
     /**
      * {@code Standard} represents all standard classical scales.
      * <p/>
@@ -800,4 +1744,84 @@ implements
             musical.Range r2
             );
     }
-}
\ No newline at end of file
+
+    /**
+     * {@code Tuned} holds the immutable notes of a scale for the root, intervals, and adjustments they were created for.
+     * <p/>
+     * The root is compared by its values, since it can be modified in place, and the adjustments by a copy of the array.
+     *
+     * @since 1.8
+     * @author Alireza Kamran
+     */
+    private static final
+    class Tuned
+    {
+        /** The root octave. */
+        private final
+        Byte octave;
+
+        /** The root pitch. */
+        private final
+        musical.Note.Pitch pitch;
+
+        /** The root accidental. */
+        private final
+        musical.Note.Accidental accidental;
+
+        /** The root adjustment. */
+        private final
+        short adjustment;
+
+        /** The intervals. */
+        private final
+        Interval[] intervals;
+
+        /** The copy of the adjustments. */
+        private final
+        Number[] adjustments;
+
+        /** The immutable notes. */
+        final
+        musical.Note[] notes;
+
+        /**
+         * Creates the notes holder for the current root, intervals, and adjustments of the specified scale.
+         *
+         * @param scale the scale.
+         * @param notes the immutable notes.
+         */
+        Tuned(
+            final Scale scale,
+            final musical.Note[] notes
+            ) {
+            octave = scale.root.getOctave();
+            pitch = scale.root.getPitch();
+            accidental = scale.root.getAccidental();
+            adjustment = scale.root.getAdjustment();
+            intervals = scale.intervals;
+            adjustments = scale.adjustments == null
+                          ? null
+                          : scale.adjustments.clone();
+
+            this.notes = notes;
+        }
+
+        /**
+         * Returns true if the notes were created for the current root, intervals, and adjustments of the specified scale, and false otherwise.
+         *
+         * @param scale the scale.
+         * @return true if the notes are current, and false otherwise.
+         */
+        boolean isFor(
+            final Scale scale
+            ) {
+            final musical.Note root = scale.root;
+            return root.getPitch() == pitch &&
+                   root.getAccidental() == accidental &&
+                   root.getAdjustment() == adjustment &&
+                   Objects.equals(root.getOctave(), octave) &&
+                   scale.intervals == intervals &&
+                   Arrays.equals(scale.adjustments, adjustments);
+        }
+    }
+}
@@ -589,7 +589,8 @@ extends XML
         .map(WORD_FONT).to(WordFont.class)
         .map(WORK).to(Work.class)
         .map(WORK_NUMBER).to(WorkNumber.class)
-        .map(WORK_TITLE).to(WorkTitle.class);
+        .map(WORK_TITLE).to(WorkTitle.class)
+        .freeze();
 
         /**
          * Returns a conventional MusicXML element wrapped around the specified traditional XML element as its target.
@@ -2285,7 +2286,8 @@ extends XML
             .map(XLINK_TYPE).to(XlinkType.class)
             .map(Constant.MusicXML.Entity.XMLNS_XLINK).to(XmlnsXlink.class)
             .map(XML_LANG).to(XmlLang.class)
-            .map(XML_SPACE).to(XmlSpace.class);
+            .map(XML_SPACE).to(XmlSpace.class)
+            .freeze();
 
             /**
              * Returns a conventional MusicXML element attribute wrapped around the specified traditional XML element attribute as its target.
@@ -40436,8 +40438,8 @@ extends XML
         {
             /** The analytic score part elements. */
             private static final
-            Cache.Table AnalyticLevel2Elements
-            = new Cache.Table(
+            Cache.Keywords AnalyticLevel2Elements
+            = new Cache.Keywords(
                 WORK,
                 MOVEMENT_TITLE,
                 MOVEMENT_NUMBER,
@@ -40447,8 +40449,8 @@ extends XML
 
             /** The analytic music data elements. */
             private static final
-            Cache.Table AnalyticMusicElements
-            = new Cache.Table(
+            Cache.Keywords AnalyticMusicElements
+            = new Cache.Keywords(
                 ATTRIBUTES,
                 BACKUP,
                 BARLINE,
@@ -40465,8 +40467,8 @@ extends XML
 
             /** The analytic cosmetic attributes. */
             private static final
-            Cache.Table AnalyticUnacceptedAttributes
-            = new Cache.Table(
+            Cache.Keywords AnalyticUnacceptedAttributes
+            = new Cache.Keywords(
                 BEZIER_OFFSET,
                 BEZIER_OFFSET2,
                 BEZIER_X,
@@ -1,5 +1,12 @@
 package musical;
 
+import java.util.AbstractSet;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
 import java.util.SortedSet;
 
 import music.system.data.Convertible;
@@ -232,4 +239,1003 @@ extends
     interface OrderedSet
     extends SortedSet<Progress<?>>
     {}
-}
\ No newline at end of file
+
+    /**
+     * {@code Recognizer} identifies chords from sounding notes through a table of all 4096 pitch-class sets.
+     * <p/>
+     * Each set of sounding pitch classes is reduced to a 12-bit mask, and the table holds the root, the chord template, and the extensions of the best chord for every mask.
+     * The best chord has the template with the most tones contained in the set; ties are broken by the template order, and then by the lowest root.
+     * The table also holds the other roots whose templates have as many tones, so that chords with several readings, such as sixth and minor seventh chords, or symmetric chords, such as augmented and diminished seventh chords, are rooted on the bass when possible.
+     * The bass then determines the inversion of the chord.
+     * <p/>
+     * Seventh and sixth chords of the major and minor modes have templates of their own, so that they outscore the triads of their other tones; their sevenths and sixths are reported as extensions of the mode.
+     * <p/>
+     * The table is computed once when the class is initialized, and all methods in this class implementation are thread-safe.
+     *
+     * @since 1.8
+     * @author Alireza Kamran
+     */
+    public final
+    class Recognizer
+    {
+        /** The chord template modes, in order of preference. */
+        private static final
+        Mode[] Modes = { Mode.LydianDominant, Mode.Lydian, Mode.Dominant, Mode.HalfDiminished, Mode.DominantAltered, Mode.Altered, Mode.Minor, Mode.Major, Mode.Major, Mode.Major, Mode.Minor, Mode.Diminished, Mode.Augmented, Mode.Suspended, Mode.Suspended, Mode.Fifth };
+
+        /** The chord template tones in semitones above the root, in stacking order, and with templates of more tones first. */
+        private static final
+        byte[][] Tones = {
+            { 0, 4, 7, 10, 6 },
+            { 0, 4, 7, 11, 6 },
+            { 0, 4, 7, 10 },
+            { 0, 3, 6, 10 },
+            { 0, 4, 8, 10 },
+            { 0, 4, 6, 10 },
+            { 0, 3, 7, 10 },
+            { 0, 4, 7, 11 },
+            { 0, 4, 7, 9 },
+            { 0, 4, 7 },
+            { 0, 3, 7 },
+            { 0, 3, 6 },
+            { 0, 4, 8 },
+            { 0, 5, 7 },
+            { 0, 2, 7 },
+            { 0, 7 }
+        };
+
+        /** The number of leading template tones named by the template mode; the other template tones are reported as extensions. */
+        private static final
+        byte[] Named = { 5, 5, 4, 4, 4, 4, 3, 3, 3, 3, 3, 3, 3, 3, 3, 2 };
+
+        /** The chord template masks. */
+        private static final
+        int[] Masks = new int[Tones.length];
+
+        /** The chord template masks of the named tones. */
+        private static final
+        int[] Cores = new int[Tones.length];
+
+        /**
+         * The chord table, indexed by pitch-class mask.
+         * <p/>
+         * Each entry holds the extensions mask relative to the root in bits 0 to 11, the root in bits 12 to 15, the template index in bits 16 to 19, and the mask of the equally scoring roots in bits 20 to 31.
+         * Entries of sets that match no template are zero; the others have at least the bit of their root in the roots mask.
+         */
+        private static final
+        int[] Table = new int[1 << 12];
+
+        static {
+            for (int t = 0; t < Tones.length; t++)
+                for (int i = 0; i < Tones[t].length; i++) {
+                    Masks[t] |= 1 << Tones[t][i];
+                    if (i < Named[t])
+                        Cores[t] |= 1 << Tones[t][i];
+                }
+
+            for (int set = 1; set < Table.length; set++) {
+                int best = -1;
+                int bestRoot = 0;
+                int roots = 0;
+                for (int root = 0; root < 12; root++) {
+                    if ((set & 1 << root) == 0)
+                        continue;
+
+                    final int t = template(rotate(set, root));
+                    if (t < 0)
+                        continue;
+
+                    if (best < 0 || Tones[t].length > Tones[best].length || Tones[t].length == Tones[best].length && t < best) {
+                        if (best < 0 || Tones[t].length > Tones[best].length)
+                            roots = 0;
+
+                        best = t;
+                        bestRoot = root;
+                        roots |= 1 << root;
+                    }
+                    else
+                        if (Tones[t].length == Tones[best].length)
+                        roots |= 1 << root;
+                }
+
+                if (best >= 0)
+                    Table[set] = roots << 20 | best << 16 | bestRoot << 12 | rotate(set, bestRoot) & ~Cores[best];
+            }
+        }
+
+        /**
+         * Prevents instantiation.
+         */
+        private
+        Recognizer() {}
+
+        /**
+         * Returns the specified 12-bit mask rotated down by the specified semitones.
+         *
+         * @param mask the mask.
+         * @param semitones the semitones, between 0 and 11.
+         *
+         * @return the rotated mask.
+         */
+        private static
+        int rotate(
+            final int mask,
+            final int semitones
+            ) {
+            return (mask >>> semitones | mask << 12 - semitones) & 0xFFF;
+        }
+
+        /**
+         * Returns the index of the first template, and so the one with the most tones, that is contained in the specified pitch-class mask relative to a root; or -1 if none is.
+         *
+         * @param relative the pitch-class mask relative to the root.
+         *
+         * @return the template index, or -1.
+         */
+        private static
+        int template(
+            final int relative
+            ) {
+            for (int t = 0; t < Masks.length; t++)
+                if ((relative & Masks[t]) == Masks[t])
+                    return t;
+
+            return -1;
+        }
+
+        /**
+         * Returns the pitch class of the specified note, between 0 and 11.
+         *
+         * @param note the note.
+         *
+         * @return the pitch class.
+         */
+        private static
+        int pitchClass(
+            final Note note
+            ) {
+            return Math.floorMod(note.pitch.order + note.accidental.getSemitones(), 12);
+        }
+
+        /**
+         * Returns the chord of the specified pitch-class mask and bass pitch class, with the specified root movement from the previous chord; or null if the set matches no chord.
+         * <p/>
+         * If the bass is one of the equally scoring roots of the set, the chord is rooted on the bass, with the best template on the bass.
+         *
+         * @param mask the pitch-class mask, with bit 0 for C.
+         * @param bass the bass pitch class, or -1 if unknown.
+         * @param movement the root movement in cents.
+         *
+         * @return the chord, or null.
+         *
+         * @throws ArrayIndexOutOfBoundsException if the mask is out of range.
+         */
+        private static
+        Label recognize(
+            final int mask,
+            final int bass,
+            final int movement
+            ) {
+            final int entry = Table[mask];
+            if (entry == 0)
+                return null;
+
+            int template = entry >>> 16 & 0xF;
+            int root = entry >>> 12 & 0xF;
+            int extensions = entry & 0xFFF;
+            if (bass >= 0 && bass != root && (entry >>> 20 & 1 << bass) != 0) {
+                root = bass;
+                template = template(rotate(mask, root));
+                extensions = rotate(mask, root) & ~Cores[template];
+            }
+
+            byte inversion = -1;
+            if (bass >= 0)
+                for (byte i = 0; i < Tones[template].length; i++)
+                    if (Tones[template][i] == Math.floorMod(bass - root, 12)) {
+                        inversion = i;
+                        break;
+                    }
+
+            return new Label(Modes[template], (byte) root, (short) extensions, (byte) bass, inversion, (short) movement);
+        }
+
+        /**
+         * Returns the chord of the specified pitch-class mask and bass pitch class, or null if the set matches no chord.
+         *
+         * @param mask the pitch-class mask, with bit 0 for C.
+         * @param bass the bass pitch class, or -1 if unknown.
+         *
+         * @return the chord, or null.
+         *
+         * @throws IllegalArgumentException if the mask is not a 12-bit mask, or the bass is not -1 or a pitch class.
+         */
+        public static
+        Label recognize(
+            final int mask,
+            final int bass
+            ) {
+            if (mask < 0 || mask >= Table.length || bass < -1 || bass > 11)
+                throw new IllegalArgumentException();
+
+            return recognize(mask, bass, 0);
+        }
+
+        /**
+         * Returns the chord of the specified notes, or null if the notes match no chord.
+         * <p/>
+         * The bass is the lowest note that has an octave, or the first note if none has an octave.
+         *
+         * @param notes the notes, such as a note group.
+         *
+         * @return the chord, or null.
+         *
+         * @throws NullPointerException if the notes or any of the notes is null.
+         */
+        public static
+        Label recognize(
+            final Iterable<? extends Note> notes
+            ) {
+            int mask = 0;
+            int bass = -1;
+            int lowest = Integer.MAX_VALUE;
+            for (final Note note : notes) {
+                final int pc = pitchClass(note);
+                mask |= 1 << pc;
+                if (note.octave != null) {
+                    final int number = Note.number(note.octave, note.pitch, note.accidental);
+                    if (number < lowest) {
+                        lowest = number;
+                        bass = pc;
+                    }
+                }
+                else
+                    if (bass < 0)
+                    bass = pc;
+            }
+
+            return recognize(mask, bass, 0);
+        }
+
+        /**
+         * Returns the chord progression of the specified vertical slices of the specified notes.
+         * <p/>
+         * Slice {@code i} contains the notes from index {@code starts[i]} with length {@code lengths[i]}, such as the segments returned by {@link Tuning#segment(short[], int, int, int[], int[])} or the onsets of a part.
+         * Slices that match no chord are skipped, and the interval of each chord is its root movement from the previous chord, or zero for the first chord.
+         *
+         * @param notes the notes.
+         * @param starts the slice start indices.
+         * @param lengths the slice lengths.
+         * @param count the number of slices.
+         *
+         * @return the chord progression.
+         *
+         * @throws NullPointerException if any of the arguments is null.
+         * @throws ArrayIndexOutOfBoundsException if a slice is out of range.
+         */
+        public static
+        List<Label> progression(
+            final NoteArray notes,
+            final int[] starts,
+            final int[] lengths,
+            final int count
+            ) {
+            final short[] numbers = notes.getNumbers();
+            final int size = notes.size();
+            final List<Label> progression = new ArrayList<>(count);
+            int previous = -1;
+            for (int i = 0; i < count; i++) {
+                final int end = starts[i] + lengths[i];
+                if (end > size)
+                    throw new ArrayIndexOutOfBoundsException(end);
+
+                int mask = 0;
+                int lowest = Integer.MAX_VALUE;
+                for (int k = starts[i]; k < end; k++) {
+                    mask |= 1 << Math.floorMod(numbers[k], 12);
+                    lowest = Math.min(lowest, numbers[k]);
+                }
+
+                final Label chord = recognize(mask, lowest == Integer.MAX_VALUE
+                                                    ? -1
+                                                    : Math.floorMod(lowest, 12), 0);
+                if (chord != null) {
+                    progression.add(previous < 0
+                                    ? chord
+                                    : chord.moved(Math.floorMod(chord.root - previous, 12) * 100));
+                    previous = chord.root;
+                }
+            }
+
+            return progression;
+        }
+
+        /**
+         * Returns the chord progression of the specified vertical slices, such as note groups.
+         * <p/>
+         * Slices that match no chord are skipped, and the interval of each chord is its root movement from the previous chord, or zero for the first chord.
+         *
+         * @param slices the slices.
+         *
+         * @return the chord progression.
+         *
+         * @throws NullPointerException if the slices or any of the notes is null.
+         */
+        public static
+        List<Label> progression(
+            final Iterable<? extends Iterable<? extends Note>> slices
+            ) {
+            final List<Label> progression = new ArrayList<>();
+            int previous = -1;
+            for (final Iterable<? extends Note> slice : slices) {
+                final Label chord = recognize(slice);
+                if (chord != null) {
+                    progression.add(previous < 0
+                                    ? chord
+                                    : chord.moved(Math.floorMod(chord.root - previous, 12) * 100));
+                    previous = chord.root;
+                }
+            }
+
+            return progression;
+        }
+
+        /**
+         * {@code Label} is an immutable recognized chord, as a progress whose interval is the root movement from the previous chord and whose variance is the chord mode.
+         *
+         * @since 1.8
+         * @author Alireza Kamran
+         */
+        public static final
+        class Label
+        extends Progress<Short>
+        {
+            /** The serial version UID. */
+            private static final
+            long serialVersionUID = 1L;
+
+            /** The chord mode. */
+            private final
+            Chord.Mode mode;
+
+            /** The root pitch class. */
+            private final
+            byte root;
+
+            /** The extensions mask relative to the root. */
+            private final
+            short extensions;
+
+            /** The bass pitch class, or -1 if unknown. */
+            private final
+            byte bass;
+
+            /** The inversion, or -1 if the bass is not a chord tone or is unknown. */
+            private final
+            byte inversion;
+
+            /**
+             * Creates a chord label.
+             *
+             * @param mode the chord mode.
+             * @param root the root pitch class.
+             * @param extensions the extensions mask.
+             * @param bass the bass pitch class.
+             * @param inversion the inversion.
+             * @param movement the root movement in cents.
+             */
+            private
+            Label(
+                final Chord.Mode mode,
+                final byte root,
+                final short extensions,
+                final byte bass,
+                final byte inversion,
+                final short movement
+                ) {
+                super(mode, movement);
+                this.mode = mode;
+                this.root = root;
+                this.extensions = extensions;
+                this.bass = bass;
+                this.inversion = inversion;
+            }
+
+            /**
+             * Returns a copy of this label with the specified root movement.
+             *
+             * @param movement the root movement in cents.
+             *
+             * @return the moved label.
+             */
+            Label moved(
+                final int movement
+                ) {
+                return new Label(mode, root, extensions, bass, inversion, (short) movement);
+            }
+
+            /**
+             * Returns this label.
+             *
+             * @return this label.
+             */
+            @Override
+            public Label convert() {
+                return this;
+            }
+
+            /**
+             * Returns the bass pitch class, or -1 if unknown.
+             *
+             * @return the bass pitch class.
+             */
+            public
+            byte getBass() {
+                return bass;
+            }
+
+            /**
+             * Returns the mask of the sounding pitch classes that are not chord tones, relative to the root; such as bit 2 for an added ninth.
+             *
+             * @return the extensions mask.
+             */
+            public
+            short getExtensions() {
+                return extensions;
+            }
+
+            /**
+             * Returns the inversion, 0 for root position, 1 for the third in the bass, and so on; or -1 if the bass is not a chord tone or is unknown.
+             *
+             * @return the inversion.
+             */
+            public
+            byte getInversion() {
+                return inversion;
+            }
+
+            /**
+             * Returns the chord mode.
+             *
+             * @return the chord mode.
+             */
+            public
+            Chord.Mode getMode() {
+                return mode;
+            }
+
+            @Override
+            public Short[] getQuantification() {
+                return new Short[] { cents };
+            }
+
+            /**
+             * Returns the root pitch class, between 0 for C and 11 for B.
+             *
+             * @return the root pitch class.
+             */
+            public
+            byte getRoot() {
+                return root;
+            }
+
+            /**
+             * Returns the chord mode.
+             *
+             * @return the chord mode.
+             */
+            @Override
+            public Progressor getVariance() {
+                return mode;
+            }
+
+            /**
+             * This implementation throws an {@code UnsupportedOperationException}, since labels are immutable.
+             */
+            @Override
+            public void setQuantification(final Short... q) {
+                throw new UnsupportedOperationException();
+            }
+
+            /**
+             * This implementation throws an {@code UnsupportedOperationException}, since labels are immutable.
+             */
+            @Override
+            public void setVariance(final Progressor v) {
+                throw new UnsupportedOperationException();
+            }
+        }
+    }
+
+    /**
+     * {@code Voicing} is an ordered set of progresses backed by a bitset of semitones.
+     * <p/>
+     * Each progress is placed at the semitone of its cents, so that progresses are ordered by their cents, and two progresses with the same cents are the same element.
+     * Only progresses of whole semitones between 0 and 127 can be added, which is the range of two {@code long} words.
+     * Membership, union, intersection and difference with other voicings are word operations, and iteration follows the set bits in ascending order.
+     * <p/>
+     * Head, tail and sub sets are views bounded by semitones that share the bitset of the voicing they are created from.
+     * <p/>
+     * Methods in this class implementation are not thread-safe.
+     *
+     * @since 1.8
+     * @author Alireza Kamran
+     */
+    public
+    class Voicing
+    extends AbstractSet<Progress<?>>
+    implements OrderedSet
+    {
+        /** The number of semitones in a voicing. */
+        public static final
+        int Size = 128;
+
+        /** The comparator of progresses by cents. */
+        public static final
+        Comparator<Progress<?>> Order = (a, b) -> Short.compare(a.getCents(), b.getCents());
+
+        /** The voicing that holds the bitset and elements. */
+        private final
+        Voicing base;
+
+        /** The lowest semitone of the view, inclusive. */
+        private final
+        int from;
+
+        /** The highest semitone of the view, exclusive. */
+        private final
+        int to;
+
+        /** The semitone bitset words. */
+        private final
+        long[] words;
+
+        /** The progresses indexed by semitone. */
+        private final
+        Progress<?>[] elements;
+
+        /**
+         * Creates an empty voicing.
+         */
+        public
+        Voicing() {
+            base = this;
+            from = 0;
+            to = Size;
+            words = new long[2];
+            elements = new Progress<?>[Size];
+        }
+
+        /**
+         * Creates a voicing containing the specified progresses.
+         *
+         * @param progresses the progresses.
+         *
+         * @throws NullPointerException if the progresses collection or any of the progresses is null.
+         * @throws IllegalArgumentException if any of the progresses is not a whole semitone between 0 and 127.
+         */
+        public
+        Voicing(
+            final Collection<? extends Progress<?>> progresses
+            ) {
+            this();
+            addAll(progresses);
+        }
+
+        /**
+         * Creates a view of the specified voicing bounded by the specified semitones.
+         *
+         * @param base the base voicing.
+         * @param from the lowest semitone, inclusive.
+         * @param to the highest semitone, exclusive.
+         */
+        private
+        Voicing(
+            final Voicing base,
+            final int from,
+            final int to
+            ) {
+            this.base = base;
+            this.from = from;
+            this.to = to;
+            words = base.words;
+            elements = base.elements;
+        }
+
+        /**
+         * Returns the semitone of the specified object, or -1 if it is not a progress of a whole semitone between 0 and 127.
+         *
+         * @param obj the object.
+         *
+         * @return the semitone, or -1.
+         */
+        private static
+        int semitone(
+            final Object obj
+            ) {
+            if (!(obj instanceof Progress))
+                return -1;
+
+            final short cents = ((Progress<?>) obj).getCents();
+            return cents >= 0 && cents < Size * 100 && cents % 100 == 0
+                   ? cents / 100
+                   : -1;
+        }
+
+        /**
+         * Returns the semitone of the specified progress, checked against the bounds of the view.
+         *
+         * @param progress the progress.
+         * @param inclusive the flag indicating if the upper bound is inclusive, for the bounds of sub views.
+         *
+         * @return the semitone.
+         *
+         * @throws NullPointerException if the progress is null.
+         * @throws IllegalArgumentException if the progress is not a whole semitone, or is out of the bounds of the view.
+         */
+        private
+        int checked(
+            final Progress<?> progress,
+            final boolean inclusive
+            ) {
+            if (progress == null)
+                throw new NullPointerException();
+
+            final int semitone = semitone(progress);
+            if (semitone < from || semitone > to || semitone == to && !inclusive)
+                throw new IllegalArgumentException();
+
+            return semitone;
+        }
+
+        /**
+         * Returns the word at the specified index, masked by the bounds of the view.
+         *
+         * @param i the word index.
+         *
+         * @return the masked word.
+         */
+        private
+        long word(
+            final int i
+            ) {
+            final int low = Math.max(from - (i << 6), 0);
+            final int high = Math.min(to - (i << 6), 64);
+            if (low >= high)
+                return 0;
+
+            final long mask = high == 64
+                              ? -1L << low
+                              : (1L << high) - (1L << low);
+            return words[i] & mask;
+        }
+
+        @Override
+        public boolean add(final Progress<?> progress) {
+            final int semitone = checked(progress, false);
+            final long bit = 1L << semitone;
+            if ((words[semitone >> 6] & bit) != 0)
+                return false;
+
+            words[semitone >> 6] |= bit;
+            elements[semitone] = progress;
+            return true;
+        }
+
+        /**
+         * Adds the progresses in the specified collection; and uses word operations if the collection is a voicing.
+         *
+         * @param progresses the progresses.
+         *
+         * @return true if the voicing changes, and false otherwise.
+         *
+         * @throws NullPointerException if the collection or any of its progresses is null.
+         * @throws IllegalArgumentException if any of the progresses is not a whole semitone, or is out of the bounds of the view.
+         */
+        @Override
+        public boolean addAll(final Collection<? extends Progress<?>> progresses) {
+            if (!(progresses instanceof Voicing))
+                return super.addAll(progresses);
+
+            final Voicing voicing = (Voicing) progresses;
+            boolean changed = false;
+            for (int i = 0; i < words.length; i++) {
+                long added = voicing.word(i) & ~words[i];
+                if (added == 0)
+                    continue;
+
+                if (!within(i, added))
+                    throw new IllegalArgumentException();
+
+                words[i] |= added;
+                changed = true;
+                for (; added != 0; added &= added - 1) {
+                    final int semitone = (i << 6) + Long.numberOfTrailingZeros(added);
+                    elements[semitone] = voicing.elements[semitone];
+                }
+            }
+
+            return changed;
+        }
+
+        @Override
+        public void clear() {
+            for (int i = 0; i < words.length; i++) {
+                for (long bits = word(i); bits != 0; bits &= bits - 1)
+                    elements[(i << 6) + Long.numberOfTrailingZeros(bits)] = null;
+
+                words[i] &= ~word(i);
+            }
+        }
+
+        @Override
+        public Comparator<? super Progress<?>> comparator() {
+            return Order;
+        }
+
+        @Override
+        public boolean contains(final Object obj) {
+            final int semitone = semitone(obj);
+            return semitone >= from && semitone < to && (words[semitone >> 6] & 1L << semitone) != 0;
+        }
+
+        /**
+         * Returns true if the voicing contains all the progresses in the specified collection; and uses word operations if the collection is a voicing.
+         *
+         * @param progresses the progresses.
+         *
+         * @return true if all the progresses are contained, and false otherwise.
+         *
+         * @throws NullPointerException if the collection is null.
+         */
+        @Override
+        public boolean containsAll(final Collection<?> progresses) {
+            if (!(progresses instanceof Voicing))
+                return super.containsAll(progresses);
+
+            final Voicing voicing = (Voicing) progresses;
+            for (int i = 0; i < words.length; i++)
+                if ((voicing.word(i) & ~word(i)) != 0)
+                    return false;
+
+            return true;
+        }
+
+        @Override
+        public Progress<?> first() {
+            for (int i = 0; i < words.length; i++) {
+                final long bits = word(i);
+                if (bits != 0)
+                    return elements[(i << 6) + Long.numberOfTrailingZeros(bits)];
+            }
+
+            throw new NoSuchElementException();
+        }
+
+        @Override
+        public SortedSet<Progress<?>> headSet(final Progress<?> to) {
+            return new Voicing(base, from, checked(to, true));
+        }
+
+        @Override
+        public boolean isEmpty() {
+            return (word(0) | word(1)) == 0;
+        }
+
+        @Override
+        public Iterator<Progress<?>> iterator() {
+            return new Iterator<Progress<?>>() {
+                /** The remaining bits of the current word. */
+                private long bits = word(0);
+
+                /** The current word index. */
+                private int index;
+
+                /** The semitone of the last returned progress, or -1. */
+                private int last = -1;
+
+                @Override
+                public boolean hasNext() {
+                    while (bits == 0 && index < words.length - 1)
+                        bits = word(++index);
+
+                    return bits != 0;
+                }
+
+                @Override
+                public Progress<?> next() {
+                    if (!hasNext())
+                        throw new NoSuchElementException();
+
+                    last = (index << 6) + Long.numberOfTrailingZeros(bits);
+                    bits &= bits - 1;
+                    return elements[last];
+                }
+
+                @Override
+                public void remove() {
+                    if (last < 0)
+                        throw new IllegalStateException();
+
+                    words[last >> 6] &= ~(1L << last);
+                    elements[last] = null;
+                    last = -1;
+                }
+            };
+        }
+
+        @Override
+        public Progress<?> last() {
+            for (int i = words.length - 1; i >= 0; i--) {
+                final long bits = word(i);
+                if (bits != 0)
+                    return elements[(i << 6) + 63 - Long.numberOfLeadingZeros(bits)];
+            }
+
+            throw new NoSuchElementException();
+        }
+
+        @Override
+        public boolean remove(final Object obj) {
+            if (!contains(obj))
+                return false;
+
+            final int semitone = semitone(obj);
+            words[semitone >> 6] &= ~(1L << semitone);
+            elements[semitone] = null;
+            return true;
+        }
+
+        /**
+         * Removes the progresses in the specified collection; and uses word operations if the collection is a voicing.
+         *
+         * @param progresses the progresses.
+         *
+         * @return true if the voicing changes, and false otherwise.
+         *
+         * @throws NullPointerException if the collection is null.
+         */
+        @Override
+        public boolean removeAll(final Collection<?> progresses) {
+            return progresses instanceof Voicing
+                   ? retain((Voicing) progresses, false)
+                   : super.removeAll(progresses);
+        }
+
+        /**
+         * Retains only the progresses in the specified collection; and uses word operations if the collection is a voicing.
+         *
+         * @param progresses the progresses.
+         *
+         * @return true if the voicing changes, and false otherwise.
+         *
+         * @throws NullPointerException if the collection is null.
+         */
+        @Override
+        public boolean retainAll(final Collection<?> progresses) {
+            return progresses instanceof Voicing
+                   ? retain((Voicing) progresses, true)
+                   : super.retainAll(progresses);
+        }
+
+        @Override
+        public int size() {
+            return Long.bitCount(word(0)) + Long.bitCount(word(1));
+        }
+
+        @Override
+        public SortedSet<Progress<?>> subSet(final Progress<?> from, final Progress<?> to) {
+            final int low = checked(from, true);
+            final int high = checked(to, true);
+            if (low > high)
+                throw new IllegalArgumentException();
+
+            return new Voicing(base, low, high);
+        }
+
+        @Override
+        public SortedSet<Progress<?>> tailSet(final Progress<?> from) {
+            return new Voicing(base, checked(from, true), to);
+        }
+
+        /**
+         * Returns the semitone bitset of the voicing as two words, the first holding semitones 0 to 63 and the second holding semitones 64 to 127.
+         * <p/>
+         * The returned array is a copy masked by the bounds of the view.
+         *
+         * @return the bitset words.
+         */
+        public
+        long[] getMask() {
+            return new long[] { word(0), word(1) };
+        }
+
+        /**
+         * Returns the pitch classes of the voicing as a 12-bit mask, the same way {@link Scale#getMask()} does.
+         *
+         * @return the pitch-class mask.
+         */
+        public
+        int pitchClasses() {
+            int mask = 0;
+            for (int i = 0; i < words.length; i++)
+                for (long bits = word(i); bits != 0; bits &= bits - 1)
+                    mask |= 1 << ((i << 6) + Long.numberOfTrailingZeros(bits)) % 12;
+
+            return mask;
+        }
+
+        /**
+         * Retains, or removes, the progresses of this voicing that are in the specified voicing; and returns true if the voicing changes.
+         *
+         * @param voicing the voicing.
+         * @param contained the flag indicating if the contained progresses are retained, or removed.
+         *
+         * @return true if the voicing changes, and false otherwise.
+         */
+        private
+        boolean retain(
+            final Voicing voicing,
+            final boolean contained
+            ) {
+            boolean changed = false;
+            for (int i = 0; i < words.length; i++) {
+                long removed = word(i) & (contained
+                                          ? ~voicing.word(i)
+                                          : voicing.word(i));
+                if (removed == 0)
+                    continue;
+
+                words[i] &= ~removed;
+                changed = true;
+                for (; removed != 0; removed &= removed - 1)
+                    elements[(i << 6) + Long.numberOfTrailingZeros(removed)] = null;
+            }
+
+            return changed;
+        }
+
+        /**
+         * Returns true if the specified bits of the word at the specified index are within the bounds of the view.
+         *
+         * @param i the word index.
+         * @param bits the bits.
+         *
+         * @return true if the bits are within the bounds, and false otherwise.
+         */
+        private
+        boolean within(
+            final int i,
+            final long bits
+            ) {
+            return (Long.numberOfTrailingZeros(bits) + (i << 6)) >= from && (63 - Long.numberOfLeadingZeros(bits) + (i << 6)) < to;
+        }
+
+        /**
+         * Returns true if the specified object is a set with the same elements; and compares bitsets if the object is a voicing.
+         *
+         * @param obj the object.
+         *
+         * @return true if the sets are equal, and false otherwise.
+         */
+        @Override
+        public boolean equals(final Object obj) {
+            if (!(obj instanceof Voicing))
+                return super.equals(obj);
+
+            final Voicing voicing = (Voicing) obj;
+            return word(0) == voicing.word(0) && word(1) == voicing.word(1);
+        }
+
+        /**
+         * Returns the hash code of the bitset.
+         * <p/>
+         * Progresses do not override the identity hash code, so the hash code of the voicing is computed from its bitset; and it is consistent with equality between voicings.
+         *
+         * @return the hash code.
+         */
+        @Override
+        public int hashCode() {
+            return Long.hashCode(word(0)) * 31 + Long.hashCode(word(1));
+        }
+    }
+}
@@ -7,14 +7,19 @@ import static system.data.Constant.OperationImpossible;
 import static system.data.Constant.StandardObjectInoperable;
 
 import java.time.temporal.TemporalAmount;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Comparator;
+import java.util.List;
 import java.util.function.BooleanSupplier;
 import java.util.function.Function;
+import java.util.stream.Collector;
 
 import system.data.Constant;
 import system.data.Fraction;
 import system.data.Lambda;
 import system.data.Operable;
+import system.data.Rational;
 import system.data.Symbolized;
 import system.data.Unique;
 
@@ -72,6 +77,46 @@ implements
     public static final
     Class<Duration> TYPE = Duration.class;
 
+    /** The unit. (adjustment) */
+    public static final
+    Fraction Unit = new Fraction.Singleton(UnitSym, 1);
+
+    /** The dotted note. (adjustment) */
+    public static final
+    Fraction.Singleton Dotted = new Fraction.Singleton(DottedSym, 3, (short) 2);
+
+    /** The double-dotted note. (adjustment) */
+    public static final
+    Fraction.Singleton DoubleDotted = new Fraction.Singleton(DoubleDottedSym, 7, (short) 4);
+
+    /** The triple-dotted note. (adjustment) */
+    public static final
+    Fraction.Singleton TripleDotted = new Fraction.Singleton(TripleDottedSym, 15, (short) 8);
+
+    /** The triplet note. (adjustment) */
+    public static final
+    Fraction.Singleton Triplet = new Fraction.Singleton(TripletSym, 1, (short) 3);
+
+    /** The quintuplet note. (adjustment) */
+    public static final
+    Fraction.Singleton Quintuplet = new Fraction.Singleton(QuintupletSym, 1, (short) 5);
+
+    /** The sextuplet note. (adjustment) */
+    public static final
+    Fraction.Singleton Sextuplet = new Fraction.Singleton(SextupletSym, 1, (short) 6);
+
+    /** The septuplet note. (adjustment) */
+    public static final
+    Fraction.Singleton Septuplet = new Fraction.Singleton(SeptupletSym, 1, (short) 7);
+
+    /** The duplet note. (adjustment) */
+    public static final
+    Fraction.Singleton Duplet = new Fraction.Singleton(DupletSym, 3, (short) 2);
+
+    /** The quadruplet note. (adjustment) */
+    public static final
+    Fraction.Singleton Quadruplet = new Fraction.Singleton(QuadrupletSym, 3, (short) 4);
+
     /** The octuple whole note. */
     public static final
     Singleton OctupleWhole = new Singleton(OctupleWholeSym, 8, (short) 1, (short) 1);
@@ -120,58 +165,18 @@ implements
     public static final
     Singleton TwoHundredFiftySixth = new Singleton(TwoHundredFiftySixthSym, 1, (short) 256, (short) 256);
 
-    /** The two hundred fifty-sixth note. */
+    /** The five hundred twelfth note. */
     public static final
-    Singleton FiveHundredTwelfth = new Singleton(TwoHundredFiftySixthSym, 1, (short) 512, (short) 512);
+    Singleton FiveHundredTwelfth = new Singleton(FiveHundredTwelfthSym, 1, (short) 512, (short) 512);
 
-    /** The two hundred fifty-sixth note. */
+    /** The one thousand twenty-fourth note. */
     public static final
-    Singleton OneThousandTwentyFourth = new Singleton(TwoHundredFiftySixthSym, 1, (short) 1024, (short) 1024);
+    Singleton OneThousandTwentyFourth = new Singleton(OneThousandTwentyFourthSym, 1, (short) 1024, (short) 1024);
 
     /** Grace note. (instantanous) */
     public static final
     Singleton Grace = new Singleton(GraceSym, 0, (short) 8);
 
-    /** The unit. (adjustment) */
-    public static final
-    Fraction Unit = new Fraction.Singleton(UnitSym, 1);
-
-    /** The dotted note. (adjustment) */
-    public static final
-    Fraction.Singleton Dotted = new Fraction.Singleton(DottedSym, 3, (short) 2);
-
-    /** The double-dotted note. (adjustment) */
-    public static final
-    Fraction.Singleton DoubleDotted = new Fraction.Singleton(DoubleDottedSym, 7, (short) 4);
-
-    /** The triple-dotted note. (adjustment) */
-    public static final
-    Fraction.Singleton TripleDotted = new Fraction.Singleton(TripleDottedSym, 15, (short) 8);
-
-    /** The triplet note. (adjustment) */
-    public static final
-    Fraction.Singleton Triplet = new Fraction.Singleton(TripletSym, 1, (short) 3);
-
-    /** The quintuplet note. (adjustment) */
-    public static final
-    Fraction.Singleton Quintuplet = new Fraction.Singleton(QuintupletSym, 1, (short) 5);
-
-    /** The sextuplet note. (adjustment) */
-    public static final
-    Fraction.Singleton Sextuplet = new Fraction.Singleton(SextupletSym, 1, (short) 6);
-
-    /** The septuplet note. (adjustment) */
-    public static final
-    Fraction.Singleton Septuplet = new Fraction.Singleton(SeptupletSym, 1, (short) 7);
-
-    /** The duplet note. (adjustment) */
-    public static final
-    Fraction.Singleton Duplet = new Fraction.Singleton(DupletSym, 3, (short) 2);
-
-    /** The quadruplet note. (adjustment) */
-    public static final
-    Fraction.Singleton Quadruplet = new Fraction.Singleton(QuadrupletSym, 3, (short) 4);
-
     /** The dotted octuple whole note. */
     public static final
     Singleton DottedOctupleWhole = new Singleton(DottedOctupleWholeSym, OctupleWhole, (short) 1, Dotted);
@@ -326,7 +331,7 @@ implements
 
     /** The triple-dotted two hundred fifty-sixth note. */
     public static final
-    Singleton TripleDottedFiveHundredTwelfth = new Singleton(TripleDottedFiveHundredTwelfthSym, TwoHundredFiftySixth, (short) 4096, TripleDotted);
+    Singleton TripleDottedFiveHundredTwelfth = new Singleton(TripleDottedFiveHundredTwelfthSym, FiveHundredTwelfth, (short) 4096, TripleDotted);
 
     /** The dotted two hundred fifty-sixth note. */
     public static final
@@ -340,6 +345,70 @@ implements
     public static final
     Singleton TripleDottedOneThousandTwentyFourth = new Singleton(TripleDottedOneThousandTwentyFourthSym, OneThousandTwentyFourth, (short) 8192, TripleDotted);
 
+    /** The array of duration singletons. (descending) */
+    private static final
+    Duration.Singleton[] Order
+    = new Duration.Singleton[] {
+        TripleDottedOctupleWhole,
+        DoubleDottedOctupleWhole,
+        DottedOctupleWhole,
+        OctupleWhole,
+        TripleDottedQuadrupleWhole,
+        DoubleDottedQuadrupleWhole,
+        DottedQuadrupleWhole,
+        QuadrupleWhole,
+        TripleDottedDoubleWhole,
+        DoubleDottedDoubleWhole,
+        DottedDoubleWhole,
+        DoubleWhole,
+        TripleDottedWhole,
+        DoubleDottedWhole,
+        DottedWhole,
+        Whole,
+        TripleDottedHalf,
+        DoubleDottedHalf,
+        DottedHalf,
+        Half,
+        TripleDottedQuarter,
+        DoubleDottedQuarter,
+        DottedQuarter,
+        Quarter,
+        TripleDottedEighth,
+        DoubleDottedEighth,
+        DottedEighth,
+        Eighth,
+        TripleDottedSixteenth,
+        DoubleDottedSixteenth,
+        DottedSixteenth,
+        Sixteenth,
+        TripleDottedThirtySecond,
+        DoubleDottedThirtySecond,
+        DottedThirtySecond,
+        ThirtySecond,
+        TripleDottedSixtyFourth,
+        DoubleDottedSixtyFourth,
+        DottedSixtyFourth,
+        SixtyFourth,
+        TripleDottedHundredTwentyEighth,
+        DoubleDottedHundredTwentyEighth,
+        DottedHundredTwentyEighth,
+        HundredTwentyEighth,
+        TripleDottedTwoHundredFiftySixth,
+        DoubleDottedTwoHundredFiftySixth,
+        DottedTwoHundredFiftySixth,
+        TwoHundredFiftySixth,
+        TripleDottedFiveHundredTwelfth,
+        DoubleDottedFiveHundredTwelfth,
+        DottedFiveHundredTwelfth,
+        FiveHundredTwelfth,
+        TripleDottedOneThousandTwentyFourth,
+        DoubleDottedOneThousandTwentyFourth,
+        DottedOneThousandTwentyFourth,
+        OneThousandTwentyFourth,
+
+        Grace
+    };
+
     /** The duration symbol. */
     protected
     String symbol;
@@ -533,6 +602,26 @@ implements
         return duration instanceof Standard;
     }
 
+    /**
+     * Returns a collector that sums durations exactly, and returns the sum as a rational.
+     * <p/>
+     * The collector keeps a primitive accumulator for each thread and combines them by addition, so sequential and parallel reductions have the same result.
+     * Durations are added in any order.
+     * <p/>
+     * The sum is returned as a rational, since the denominator of a sum of mixed tuplets, such as 1/1024, 1/3, 1/5 and 1/7, can exceed the {@code short} denominator of a fraction.
+     * Sums that do fit can be converted with {@link Rational#toFraction()}.
+     *
+     * @return the summing collector.
+     *
+     * @throws ArithmeticException if the sum overflows during the reduction, or the simplified sum does not fit in a rational.
+     *
+     * @see Accumulator
+     */
+    public static
+    Collector<Fraction, Accumulator, Rational> summing() {
+        return Collector.of(Accumulator::new, Accumulator::add, Accumulator::combine, Accumulator::toRational, Collector.Characteristics.UNORDERED);
+    }
+
     /**
      * Returns the singleton equivalent to this duration using the specified comparator, or itself if none is found.
      * <p/>
@@ -546,7 +635,7 @@ implements
     Duration distinct(
         final Comparator<Fraction> comparator
         ) {
-        return (Standard) new Lambda.BinaryLocator<Fraction>(this, Singleton.Order, false, comparator).element(this);
+        return (Standard) new Lambda.BinaryLocator<Fraction>(this, Order, false, comparator).element(this);
     }
 
     /**
@@ -580,7 +669,7 @@ implements
      */
     public
     Duration distinct() {
-        return (Standard) new Lambda.BinaryComparableLocator<Fraction>(this, Singleton.Order, false).element(this);
+        return (Standard) new Lambda.BinaryComparableLocator<Fraction>(this, Order, false).element(this);
     }
 
     /**
@@ -966,6 +1055,454 @@ implements
         return denominator;
     }
 
+    /**
+     * {@code Accumulator} sums durations in primitive values without creating intermediate fractions.
+     * <p/>
+     * The running sum is kept over the least common multiple of the added denominators, so durations of the same denominator are summed with a single addition.
+     * An optional measure length, usually the time signature, is used to report when the sum fills the measure.
+     * <p/>
+     * An {@code ArithmeticException} is thrown if the sum cannot be represented in {@code long} values, and the sum is left unchanged.
+     * <p/>
+     * Methods in this class implementation are not thread-safe.
+     *
+     * @since 1.8
+     * @author Alireza Kamran
+     */
+    public static final
+    class Accumulator
+    {
+        /** The numerator of the sum. */
+        private
+        long numerator;
+
+        /** The denominator of the sum. */
+        private
+        long denominator = 1;
+
+        /** The numerator of the measure length. */
+        private final
+        long measureNumerator;
+
+        /** The denominator of the measure length, or zero if there is no measure length. */
+        private final
+        long measureDenominator;
+
+        /**
+         * Creates an accumulator with no measure length.
+         */
+        public
+        Accumulator() {
+            measureNumerator = 0;
+            measureDenominator = 0;
+        }
+
+        /**
+         * Creates an accumulator with the specified measure length.
+         *
+         * @param measure the measure length.
+         *
+         * @throws NullPointerException if the measure length is null.
+         * @throws IllegalArgumentException if the measure length is not positive.
+         */
+        public
+        Accumulator(
+            final Fraction measure
+            ) {
+            long numerator = measure.getNumerator();
+            long denominator = measure.getDenominator();
+            if (denominator < 0) {
+                numerator = -numerator;
+                denominator = -denominator;
+            }
+
+            if (numerator <= 0)
+                throw new IllegalArgumentException(NegativeDuration);
+
+            measureNumerator = numerator;
+            measureDenominator = denominator;
+        }
+
+        /**
+         * Adds the specified duration to the sum.
+         *
+         * @param duration the duration.
+         *
+         * @throws NullPointerException if the duration is null.
+         * @throws IllegalArgumentException if the duration is negative.
+         * @throws ArithmeticException if the sum overflows.
+         */
+        public
+        void add(
+            final Fraction duration
+            ) {
+            add(duration.getNumerator(), duration.getDenominator());
+        }
+
+        /**
+         * Adds the sum of the specified accumulator to the sum, and returns this accumulator.
+         * The measure length of the specified accumulator is ignored.
+         *
+         * @param accumulator the accumulator.
+         *
+         * @return this accumulator.
+         *
+         * @throws NullPointerException if the accumulator is null.
+         * @throws ArithmeticException if the sum overflows.
+         */
+        public
+        Accumulator combine(
+            final Accumulator accumulator
+            ) {
+            add(accumulator.numerator, accumulator.denominator);
+            return this;
+        }
+
+        /**
+         * Adds the specified ratio to the sum.
+         *
+         * @param numerator the numerator.
+         * @param denominator the denominator.
+         *
+         * @throws IllegalArgumentException if the ratio is negative or the denominator is zero.
+         * @throws ArithmeticException if the sum overflows.
+         */
+        public
+        void add(
+            long numerator,
+            long denominator
+            ) {
+            if (denominator == 0)
+                throw new IllegalArgumentException(Constant.ZeroDenominator);
+
+            if (denominator < 0) {
+                numerator = -numerator;
+                denominator = -denominator;
+            }
+
+            if (numerator < 0)
+                throw new IllegalArgumentException(NegativeDuration);
+
+            if (denominator == this.denominator)
+                this.numerator = Math.addExact(this.numerator, numerator);
+            else {
+                final long gcd = Lambda.gcd(this.denominator, denominator);
+                final long factor = denominator / gcd;
+                final long sum = Math.addExact(Math.multiplyExact(this.numerator, factor), Math.multiplyExact(numerator, this.denominator / gcd));
+                this.denominator = Math.multiplyExact(this.denominator, factor);
+                this.numerator = sum;
+            }
+        }
+
+        /**
+         * Writes the onset of each of the specified durations, in ticks, to the onsets array and adds the durations to the sum, stopping at the first duration that starts when the measure is full.
+         * <p/>
+         * The onset of each duration is the sum before the duration is added, converted to ticks and rounded down.
+         * If there is no measure length, all durations are added.
+         *
+         * @param durations the durations.
+         * @param resolution the number of ticks in a whole note.
+         * @param onsets the onsets array.
+         *
+         * @return the number of durations added.
+         *
+         * @throws NullPointerException if the durations or onsets array, or any of the durations added, is null.
+         * @throws ArrayIndexOutOfBoundsException if the onsets array is shorter than the number of durations added.
+         * @throws ArithmeticException if the sum or the onset ticks overflow.
+         */
+        public
+        int onsets(
+            final Duration[] durations,
+            final long resolution,
+            final long[] onsets
+            ) {
+            int i = 0;
+            for (; i < durations.length && !isFull(); i++) {
+                onsets[i] = ticks(resolution);
+                add(durations[i]);
+            }
+
+            return i;
+        }
+
+        /**
+         * Returns the sum in ticks, rounded down.
+         *
+         * @param resolution the number of ticks in a whole note.
+         *
+         * @return the sum in ticks.
+         *
+         * @throws ArithmeticException if the ticks overflow.
+         */
+        public
+        long ticks(
+            final long resolution
+            ) {
+            return Math.multiplyExact(numerator, resolution) / denominator;
+        }
+
+        /**
+         * Returns true if there is a measure length and the sum is equal to or greater than it; otherwise returns false.
+         *
+         * @return true if the measure is full, and false otherwise.
+         *
+         * @throws ArithmeticException if the comparison overflows.
+         */
+        public
+        boolean isFull() {
+            return measureDenominator != 0 && Math.multiplyExact(numerator, measureDenominator) >= Math.multiplyExact(measureNumerator, denominator);
+        }
+
+        /**
+         * Returns the sum as a simplified fraction.
+         * <p/>
+         * Fractions have {@code short} denominators, so this conversion narrows the sum and fails for sums whose simplified denominator is greater than {@link Short#MAX_VALUE}; use {@link #toRational()} for the exact sum.
+         *
+         * @return the sum.
+         *
+         * @throws ArithmeticException if the simplified sum does not fit in a fraction.
+         */
+        public
+        Fraction sum() {
+            final long gcd = Lambda.gcd(numerator, denominator);
+            if (numerator / gcd > Integer.MAX_VALUE || denominator / gcd > Short.MAX_VALUE)
+                throw new ArithmeticException(Constant.FractionOverflow);
+
+            return new Fraction(numerator / gcd, denominator / gcd);
+        }
+
+        /**
+         * Returns the sum as a rational.
+         *
+         * @return the sum.
+         *
+         * @throws ArithmeticException if the simplified numerator or denominator does not fit in an {@code int}.
+         */
+        public
+        Rational toRational() {
+            return Rational.valueOf(Rational.pack(numerator, denominator));
+        }
+
+        /**
+         * Resets the sum to zero.
+         */
+        public
+        void reset() {
+            numerator = 0;
+            denominator = 1;
+        }
+
+        /**
+         * Returns the numerator of the sum.
+         *
+         * @return the numerator.
+         */
+        public
+        long getNumerator() {
+            return numerator;
+        }
+
+        /**
+         * Returns the denominator of the sum.
+         *
+         * @return the denominator.
+         */
+        public
+        long getDenominator() {
+            return denominator;
+        }
+    }
+
+    /**
+     * {@code Quantizer} maps real-valued time intervals to the nearest notated durations.
+     * <p/>
+     * The candidate durations are sorted by value once, and each interval is snapped with a single binary search over the geometric midpoints of adjacent candidates.
+     * Nearness is measured by ratio rather than difference, so that an interval is equally tolerant in every range of durations.
+     * When more than one candidate has the same value, the first one given is kept.
+     * <p/>
+     * Intervals are given in seconds under a tempo, or in any unit with the number of whole notes per unit.
+     * <p/>
+     * Quantizers are immutable and all methods in this class implementation are thread-safe.
+     *
+     * @since 1.8
+     * @author Alireza Kamran
+     */
+    public static final
+    class Quantizer
+    {
+        /** The quantizer of all notated durations and their tuplets. */
+        public static final
+        Quantizer Notated = new Quantizer(notated());
+
+        /** The candidate durations, in ascending order. */
+        private final
+        Duration[] durations;
+
+        /** The geometric midpoints of adjacent candidate values, in whole notes. */
+        private final
+        double[] bounds;
+
+        /**
+         * Creates a quantizer with the specified candidate durations.
+         *
+         * @param durations the candidate durations.
+         *
+         * @throws NullPointerException if the durations array or any of its elements is null.
+         * @throws IllegalArgumentException if there are no candidates or any candidate is not positive.
+         */
+        public
+        Quantizer(
+            final Duration... durations
+            ) {
+            if (durations.length == 0)
+                throw new IllegalArgumentException();
+
+            final Duration[] sorted = durations.clone();
+            for (final Duration duration : sorted)
+                if (duration.doubleValue() <= 0)
+                    throw new IllegalArgumentException(NegativeDuration);
+
+            Arrays.sort(sorted, Comparator.comparingDouble(Duration::doubleValue));
+            int length = 1;
+            for (int i = 1; i < sorted.length; i++)
+                if (sorted[i].doubleValue() != sorted[length - 1].doubleValue())
+                    sorted[length++] = sorted[i];
+
+            this.durations = Arrays.copyOf(sorted, length);
+            bounds = new double[length - 1];
+            for (int i = 0; i < bounds.length; i++)
+                bounds[i] = Math.sqrt(this.durations[i].doubleValue() * this.durations[i + 1].doubleValue());
+        }
+
+        /**
+         * Returns all singletons except the grace note, and the tuplets of the singletons without adjustment, simplest tuplets first.
+         *
+         * @return the notated durations.
+         */
+        private static
+        Duration[] notated() {
+            final Fraction.Singleton[] tuplets = { Triplet, Quintuplet, Sextuplet, Septuplet, Duplet, Quadruplet };
+            final List<Duration> durations = new ArrayList<>();
+            for (final Duration.Singleton singleton : Order)
+                if (singleton.doubleValue() > 0)
+                    durations.add(singleton);
+
+            for (final Fraction.Singleton tuplet : tuplets)
+                for (final Duration.Singleton singleton : Order)
+                    if (singleton.adjustment == Unit && singleton.doubleValue() > 0)
+                        durations.add(new Duration.Singleton(musical.Constant.Duration.adjusted(singleton.getSymbol(), tuplet.getSymbol()), singleton, null, tuplet));
+
+            return durations.toArray(new Duration[durations.size()]);
+        }
+
+        /**
+         * Returns the candidate duration nearest to the specified interval in whole notes.
+         *
+         * @param wholes the interval in whole notes.
+         *
+         * @return the nearest duration.
+         *
+         * @throws IllegalArgumentException if the interval is not positive.
+         */
+        public
+        Duration quantize(
+            final double wholes
+            ) {
+            if (!(wholes > 0))
+                throw new IllegalArgumentException(NegativeDuration);
+
+            final int i = Arrays.binarySearch(bounds, wholes);
+            return durations[i < 0
+                             ? -i - 1
+                             : i];
+        }
+
+        /**
+         * Returns the candidate duration nearest to the specified interval in seconds under the tempo.
+         *
+         * @param seconds the interval in seconds.
+         * @param tempo the tempo.
+         *
+         * @return the nearest duration.
+         *
+         * @throws NullPointerException if the tempo is null.
+         * @throws IllegalArgumentException if the interval is not positive.
+         */
+        public
+        Duration quantize(
+            final double seconds,
+            final Tempo tempo
+            ) {
+            return quantize(seconds * wholesPerSecond(tempo));
+        }
+
+        /**
+         * Writes the candidate duration nearest to each of the specified intervals to the durations array, with the intervals measured in the specified unit.
+         *
+         * @param intervals the intervals.
+         * @param wholesPerUnit the number of whole notes in one unit of the intervals.
+         * @param durations the durations array.
+         *
+         * @throws NullPointerException if either array is null.
+         * @throws ArrayIndexOutOfBoundsException if the durations array is shorter than the intervals array.
+         * @throws IllegalArgumentException if any interval is not positive.
+         */
+        public
+        void quantize(
+            final double[] intervals,
+            final double wholesPerUnit,
+            final Duration[] durations
+            ) {
+            for (int i = 0; i < intervals.length; i++)
+                durations[i] = quantize(intervals[i] * wholesPerUnit);
+        }
+
+        /**
+         * Writes the candidate duration nearest to each of the specified intervals in seconds under the tempo to the durations array.
+         *
+         * @param seconds the intervals in seconds.
+         * @param tempo the tempo.
+         * @param durations the durations array.
+         *
+         * @throws NullPointerException if the tempo or either array is null.
+         * @throws ArrayIndexOutOfBoundsException if the durations array is shorter than the intervals array.
+         * @throws IllegalArgumentException if any interval is not positive.
+         */
+        public
+        void quantize(
+            final double[] seconds,
+            final Tempo tempo,
+            final Duration[] durations
+            ) {
+            quantize(seconds, wholesPerSecond(tempo), durations);
+        }
+
+        /**
+         * Returns the number of whole notes in one second under the specified tempo.
+         *
+         * @param tempo the tempo.
+         *
+         * @return the whole notes per second.
+         *
+         * @throws NullPointerException if the tempo is null.
+         */
+        public static
+        double wholesPerSecond(
+            final Tempo tempo
+            ) {
+            return tempo.bpm() * tempo.beat().doubleValue() / 60.;
+        }
+
+        /**
+         * Returns the number of candidate durations.
+         *
+         * @return the number of candidates.
+         */
+        public
+        int size() {
+            return durations.length;
+        }
+    }
+
     /**
      * {@code Singleton} represents all standard stem types in classical music.
      *
@@ -992,70 +1529,6 @@ implements
         public static final
         Class<Duration.Singleton> TYPE = Duration.Singleton.class;
 
-        /** The array of duration singletons. (descending) */
-        public static final
-        Duration.Singleton[] Order
-        = new Duration.Singleton[] {
-            TripleDottedOctupleWhole,
-            DoubleDottedOctupleWhole,
-            DottedOctupleWhole,
-            OctupleWhole,
-            TripleDottedQuadrupleWhole,
-            DoubleDottedQuadrupleWhole,
-            DottedQuadrupleWhole,
-            QuadrupleWhole,
-            TripleDottedDoubleWhole,
-            DoubleDottedDoubleWhole,
-            DottedDoubleWhole,
-            DoubleWhole,
-            TripleDottedWhole,
-            DoubleDottedWhole,
-            DottedWhole,
-            Whole,
-            TripleDottedHalf,
-            DoubleDottedHalf,
-            DottedHalf,
-            Half,
-            TripleDottedQuarter,
-            DoubleDottedQuarter,
-            DottedQuarter,
-            Quarter,
-            TripleDottedEighth,
-            DoubleDottedEighth,
-            DottedEighth,
-            Eighth,
-            TripleDottedSixteenth,
-            DoubleDottedSixteenth,
-            DottedSixteenth,
-            Sixteenth,
-            TripleDottedThirtySecond,
-            DoubleDottedThirtySecond,
-            DottedThirtySecond,
-            ThirtySecond,
-            TripleDottedSixtyFourth,
-            DoubleDottedSixtyFourth,
-            DottedSixtyFourth,
-            SixtyFourth,
-            TripleDottedHundredTwentyEighth,
-            DoubleDottedHundredTwentyEighth,
-            DottedHundredTwentyEighth,
-            HundredTwentyEighth,
-            TripleDottedTwoHundredFiftySixth,
-            DoubleDottedTwoHundredFiftySixth,
-            DottedTwoHundredFiftySixth,
-            TwoHundredFiftySixth,
-            FiveHundredTwelfth,
-            TripleDottedFiveHundredTwelfth,
-            DoubleDottedFiveHundredTwelfth,
-            DottedFiveHundredTwelfth,
-            OneThousandTwentyFourth,
-            TripleDottedOneThousandTwentyFourth,
-            DoubleDottedOneThousandTwentyFourth,
-            DottedOneThousandTwentyFourth,
-
-            Grace
-        };
-
         /**
          * Creates a singleton duration with the specified symbol, beats and units of the duration, default denominator, and adjustment.
          *
@@ -1073,7 +1546,7 @@ implements
             final Short defaultDenominator,
             final Fraction adjustment
             ) {
-            super(symbol, duration.numerator * adjustment.getNumerator(), (short) (duration.denominator * adjustment.getDenominator()), defaultDenominator, adjustment);
+            super(symbol, duration.numerator, duration.denominator, defaultDenominator, adjustment);
         }
 
         /**
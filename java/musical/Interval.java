@@ -127,6 +127,35 @@ implements
     public static final
     Singleton PerfectOctave = new Singleton(PerfectOctaveSym, (short) 1200);
 
+    /** The array of interval singletons. (ascending) */
+    private static final
+    Interval.Singleton[] Order
+    = new Interval.Singleton[] {
+        Unison,
+        QuarterTone,
+        MinorSecond,
+        MajorSecond,
+        MinorThird,
+        MajorThird,
+        PerfectFourth,
+        AugmentedFourth,
+        DiminishedFifth,
+        PerfectFifth,
+        MinorSixth,
+        MajorSixth,
+        MinorSeventh,
+        MajorSeventh,
+        PerfectOctave
+    };
+
+    /** The singletons indexed by cents divided by 50, or null for the widths without a singleton. */
+    private static final
+    Interval.Singleton[] ByCents = new Interval.Singleton[25];
+
+    /** The singletons indexed by diatonic steps and semitones, or null for the spellings without a singleton. */
+    private static final
+    Interval.Singleton[][] Spelled = new Interval.Singleton[8][13];
+
     static
     {
         Unison.setMode(Mode.Perfect);
@@ -144,6 +173,25 @@ implements
         MinorSeventh.setMode(Mode.Minor);
         MajorSeventh.setMode(Mode.Major);
         PerfectOctave.setMode(Mode.Perfect);
+
+        for (final Interval.Singleton singleton : Order)
+            if (ByCents[singleton.cents / 50] == null)
+                ByCents[singleton.cents / 50] = singleton;
+
+        Spelled[0][0] = Unison;
+        Spelled[1][1] = MinorSecond;
+        Spelled[1][2] = MajorSecond;
+        Spelled[2][3] = MinorThird;
+        Spelled[2][4] = MajorThird;
+        Spelled[3][5] = PerfectFourth;
+        Spelled[3][6] = AugmentedFourth;
+        Spelled[4][6] = DiminishedFifth;
+        Spelled[4][7] = PerfectFifth;
+        Spelled[5][8] = MinorSixth;
+        Spelled[5][9] = MajorSixth;
+        Spelled[6][10] = MinorSeventh;
+        Spelled[6][11] = MajorSeventh;
+        Spelled[7][12] = PerfectOctave;
     }
 
     /** The interval symbol. */
@@ -300,7 +348,7 @@ implements
             throw new NullPointerException();
 
         this.symbol = symbol;
-        Singleton interval = Lambda.findFirst(Singleton.Order, new Function<Object, Boolean>() {
+        Singleton interval = Lambda.findFirst(Order, new Function<Object, Boolean>() {
                                                                    @Override
                                                                    public Boolean apply(final Object obj) {
                                                                        final Singleton interval = (Singleton) obj;
@@ -361,6 +409,73 @@ implements
         return interval instanceof Standard;
     }
 
+    /**
+     * Returns the interval from the lower to the higher of the specified notes, ignoring their adjustments.
+     * <p/>
+     * The singleton matching the spelling of the notes, and so the interval mode, is returned if there is one.
+     * Otherwise, the singleton with the same width is returned if there is one, or a new interval is created.
+     * If either of the notes has no octave, the interval between the pitches within an octave, ascending from the first note, is returned.
+     *
+     * @param note1 the first note.
+     * @param note2 the second note.
+     *
+     * @return the interval between the notes.
+     *
+     * @throws NullPointerException if either of the notes is null.
+     */
+    public static
+    Interval between(
+        final Note note1,
+        final Note note2
+        ) {
+        final int step1 = (note1.pitch.ordinal() + 5) % 7;
+        final int step2 = (note2.pitch.ordinal() + 5) % 7;
+        final int order1 = note1.pitch.order + note1.accidental.getSemitones();
+        final int order2 = note2.pitch.order + note2.accidental.getSemitones();
+        int steps;
+        int semitones;
+        if (note1.octave == null || note2.octave == null) {
+            steps = Math.floorMod(step2 - step1, 7);
+            semitones = Math.floorMod(order2 - order1, 12);
+            if (steps == 0 && semitones > 6)
+                steps = 7;
+        }
+        else {
+            steps = (note2.octave - note1.octave) * 7 + step2 - step1;
+            semitones = (note2.octave - note1.octave) * 12 + order2 - order1;
+            if (semitones < 0 || semitones == 0 && steps < 0) {
+                steps = -steps;
+                semitones = -semitones;
+            }
+        }
+
+        if (steps >= 0 && steps < Spelled.length && semitones < Spelled[steps].length && Spelled[steps][semitones] != null)
+            return Spelled[steps][semitones];
+
+        final Interval singleton = withCents(semitones * 100);
+        return singleton == null
+               ? new Interval((short) (semitones * 100))
+               : singleton;
+    }
+
+    /**
+     * Returns the singleton with the specified width in cents, or null if there is none.
+     * <p/>
+     * The augmented fourth is returned for the width of 600 cents.
+     *
+     * @param cents the cents.
+     *
+     * @return the singleton interval or null.
+     */
+    public static
+    Interval withCents(
+        final int cents
+        ) {
+        return cents < 0 || cents > 1200 || cents % 50 != 0
+               ? null
+               : ByCents[cents / 50];
+    }
+
     /**
      * Sets instance variables from the specified string value.
      *
@@ -516,7 +631,7 @@ implements
     Interval distinct(
         final Comparator<Interval> comparator
         ) {
-        return new Lambda.BinaryLocator<>(this, Singleton.Order, true, comparator).element(this);
+        return new Lambda.BinaryLocator<>(this, Order, true, comparator).element(this);
     }
 
     /**
@@ -550,7 +665,7 @@ implements
      */
     public
     Interval distinct() {
-        return (Standard) new Lambda.BinaryComparableLocator<IntervalType>(this, Singleton.Order, true).element(this);
+        return (Standard) new Lambda.BinaryComparableLocator<IntervalType>(this, Order, true).element(this);
     }
 
     /**
@@ -1403,27 +1518,6 @@ implements
         public static final
         Class<Interval.Singleton> TYPE = Interval.Singleton.class;
 
-        /** The array of duration singletons. (ascending) */
-        public static final
-        Interval.Singleton[] Order
-        = new Interval.Singleton[] {
-            Unison,
-            QuarterTone,
-            MinorSecond,
-            MajorSecond,
-            MinorThird,
-            MajorThird,
-            PerfectFourth,
-            AugmentedFourth,
-            DiminishedFifth,
-            PerfectFifth,
-            MinorSixth,
-            MajorSixth,
-            MinorSeventh,
-            MajorSeventh,
-            PerfectOctave
-        };
-
         /**
          * Creates a singleton interval with the specified symbol and cents.
          *
@@ -31,13 +31,13 @@ import music.system.data.Clockable;
 import music.system.data.Delta;
 import music.system.data.Ordered;
 import musical.Spectrum.Modulus;
+import system.data.Cache;
 import system.data.Invertible;
 import system.data.Inverting;
 import system.data.Lambda;
 import system.data.Operable;
 import system.data.Symbolized;
 import system.data.Unique;
-import system.data.Lambda.BinaryLocator;
 
 /**
  * {@code Note} represents the musical note of a certain octave and pitch.
@@ -709,10 +709,6 @@ implements
     public static final
     Singleton B10 = new Singleton(143F, B10Sym, (byte) 10, Pitch.B, 31608.53F);
 
-    /** The base 10 logarithm of 2. */
-    private static final
-    float Log2Base10 = (float) Math.log10(2);
-
     /** The note symbol. */
     protected
     String symbol;
@@ -1291,7 +1287,7 @@ implements
 
         final Pitch pitch = Pitch.withOrder((byte) number);
         final byte diff = (byte) (number - pitch.order);
-        final byte adjustment = (byte) ((number - diff) * 100);
+        final short adjustment = (short) Math.round((number - pitch.order - diff) * 100);
         if (diff == 1)
             if (sharp) {
                 this.octave = octave;
@@ -1308,6 +1304,7 @@ implements
         else {
             this.octave = octave;
             this.pitch = pitch;
+            accidental = Natural;
             this.adjustment = adjustment;
         }
 
@@ -1456,7 +1453,7 @@ implements
     /**
      * Returns the number for a note with the specified frequency.
      * <p/>
-     * If the frequency is negative, NaN is returned.
+     * If the frequency is not positive or is out of range, NaN is returned.
      *
      * @param freq the frequency.
      *
@@ -1466,7 +1463,7 @@ implements
     float number(
         final float freq
         ) {
-        return (float) (69 + 12 * Math.log(freq / 440) / Log2Base10);
+        return (float) Tuning.Standard.number(freq);
     }
 
     /**
@@ -1543,7 +1540,7 @@ implements
         if (octave == null)
             return null;
 
-        return new BinaryLocator<Note>(null, Singleton.Order, (Note n, final Note singleton) -> ((Singleton) singleton).diff(octave.shortValue(), pitch, accidental)).element(null);
+        return Lookup.find(octave.shortValue(), pitch, accidental);
     }
 
     /**
@@ -1566,7 +1563,7 @@ implements
         if (octave == null)
             return null;
 
-        return new BinaryLocator<Note>(null, Singleton.Order, (Note n, final Note singleton) -> ((Singleton) singleton).diff(octave.getOrder(), pitch, accidental)).element(null);
+        return Lookup.find(octave.getOrder(), pitch, accidental);
     }
 
     /**
@@ -1678,21 +1675,14 @@ implements
         final Number number,
         final boolean sharp
         ) {
-        final Integer i = new BinaryLocator<Note>(null, Singleton.Order, (Note n, final Note singleton) -> (int) (((Singleton) singleton).number - number.floatValue())).index(null);
-
-        if (i == null)
+        final float n = number.floatValue();
+        final int i = (int) n;
+        if (i != n || i < Singleton.MIN_VALUE || i > Singleton.MAX_VALUE)
             return null;
 
-        final Note tune = Singleton.Order[i];
-        return tune.accidental == Natural
-               ? tune
-               : sharp
-                 ? tune.accidental == Flat
-                   ? Singleton.Order[i - 1]
-                   : tune
-                 : tune.accidental == Sharp
-                   ? Singleton.Order[i + 1]
-                   : tune;
+        return sharp
+               ? Lookup.Sharps[i]
+               : Lookup.Flats[i];
     }
 
     /**
@@ -1724,7 +1714,10 @@ implements
     Note tune(
         final String symbol
         ) {
-        return new BinaryLocator<Note>(null, Singleton.Order, (Note n, final Note singleton) -> singleton.symbol.compareTo(symbol)).element(null);
+        final int i = Lookup.Symbols.indexOf(symbol);
+        return i < 0
+               ? null
+               : Lookup.BySymbol[i];
     }
 
     /**
@@ -1753,8 +1746,8 @@ implements
         if (freq <= 0)
             return null;
 
-        final float number = (float) (69 + 12 * Math.log(freq / 440) / Log2Base10);
-        final short round = (short) Lambda.round(number);
+        final float number = (float) Tuning.Standard.number(freq);
+        final short round = (short) Math.round(number);
         final Note note = new Note(round, sharp);
         note.setAdjustment((short) ((number - round) * 100));
 
@@ -2125,7 +2118,7 @@ implements
         if (octave == null)
             throw new IllegalStateException();
 
-        return (float) (Math.pow(2, (getNumber() - 69) / 12D)) * 440;
+        return (float) Tuning.Standard.frequency(getNumber());
     }
 
     /**
@@ -3513,7 +3506,7 @@ implements
                 if (notes.length > 1)
                     createAccompaniment(notes.length - 1);
 
-                for (int i = 1; i < notes.length; accompaniment.add(notes[++i]));
+                for (int i = 1; i < notes.length; accompaniment.add(notes[i++]));
             }
         }
 
@@ -3635,6 +3628,17 @@ implements
             if (notes == null)
                 return false;
 
+            final NoteSet set = notes.size() > 1
+                                ? toNoteSet()
+                                : null;
+            if (set != null) {
+                for (final Object note : notes)
+                    if (!(note instanceof Note && (set.contains((Note) note) || contains((Note) note))))
+                        return false;
+
+                return true;
+            }
+
             for (final Object note : notes)
                 if (!contains(note))
                     return false;
@@ -3649,7 +3653,7 @@ implements
          */
         @Override
         public boolean isEmpty() {
-            return pitch != null;
+            return pitch == null;
         }
 
         /**
@@ -3703,7 +3707,7 @@ implements
             if (equals(obj))
                 pitch = null;
 
-            if (!(accompaniment == null || accompaniment.isEmpty()))
+            if (pitch == null && !(accompaniment == null || accompaniment.isEmpty()))
                 set(this, accompaniment.remove(0));
 
             return size > size();
@@ -3718,6 +3722,12 @@ implements
          */
         @Override
         public boolean removeAll(final Collection<?> notes) {
+            if (notes instanceof Group) {
+                final NoteSet set = ((Group) notes).toNoteSet();
+                if (set != null)
+                    return removeIf(set, true);
+            }
+
             final int size = size();
             notes.forEach((Consumer<Object>) this::remove);
             return size > size();
@@ -3732,11 +3742,43 @@ implements
          */
         @Override
         public boolean retainAll(final Collection<?> notes) {
+            if (notes instanceof Group) {
+                final NoteSet set = ((Group) notes).toNoteSet();
+                if (set != null)
+                    return removeIf(set, false);
+            }
+
             final int size = size();
             forEach((final Note note) -> { if (!notes.contains(note)) remove(note); });
             return size > size();
         }
 
+        /**
+         * Removes the notes whose numbers are, or are not, in the specified note set; and returns true if the group changes; otherwise returns false.
+         *
+         * @param set the note set.
+         * @param contained the flag indicating if the notes in the set are removed, or the notes not in the set.
+         *
+         * @return true if a note is removed, and false otherwise.
+         */
+        private
+        boolean removeIf(
+            final NoteSet set,
+            final boolean contained
+            ) {
+            final int size = size();
+            if (accompaniment != null)
+                accompaniment.removeIf(note -> set.contains(note) == contained);
+
+            if (pitch != null && set.contains(this) == contained) {
+                pitch = null;
+                if (!(accompaniment == null || accompaniment.isEmpty()))
+                    set(this, accompaniment.remove(0));
+            }
+
+            return size > size();
+        }
+
         /**
          * Returns the size of the group.
          *
@@ -3798,6 +3840,27 @@ implements
             return array;
         }
 
+        /**
+         * Returns a note set of the numbers of the notes in the group, or null if the number of a note is not whole.
+         * <p/>
+         * Set operations with another group use the note sets of the groups, so that they take linear time.
+         *
+         * @return the note set, or null.
+         */
+        public
+        NoteSet toNoteSet() {
+            final NoteSet set = new NoteSet();
+            for (final Note note : this) {
+                final float number = note.getNumber();
+                if (number != (int) number || number < MIN_VALUE || number > MAX_VALUE)
+                    return null;
+
+                set.add((int) number);
+            }
+
+            return set;
+        }
+
         /**
          * Returns the note group accompaniment.
          * <p/>
@@ -3811,6 +3874,108 @@ implements
         }
     }
 
+    /**
+     * {@code Lookup} holds the direct-index tables of singleton notes, used by the {@code tune(...)} methods.
+     * <p/>
+     * The tables are built once, the first time a note is tuned, from the array of note singletons.
+     *
+     * @since 1.8
+     * @author Alireza Kamran
+     */
+    private static final
+    class Lookup
+    {
+        /** The lowest singleton octave. */
+        private static final
+        short MinOctave = -1;
+
+        /** The highest singleton octave. */
+        private static final
+        short MaxOctave = 10;
+
+        /** The singletons indexed by octave, pitch, and accidental. */
+        static final
+        Note.Singleton[] Spelled = new Note.Singleton[(MaxOctave - MinOctave + 1) * 7 * 3];
+
+        /** The singletons indexed by number, preferring sharps. */
+        static final
+        Note.Singleton[] Sharps = new Note.Singleton[Singleton.MAX_VALUE + 1];
+
+        /** The singletons indexed by number, preferring flats. */
+        static final
+        Note.Singleton[] Flats = new Note.Singleton[Singleton.MAX_VALUE + 1];
+
+        /** The singleton symbols. */
+        static final
+        Cache.Keywords Symbols;
+
+        /** The singletons indexed by their symbol slots. */
+        static final
+        Note.Singleton[] BySymbol = new Note.Singleton[Singleton.Order.length];
+
+        static {
+            final String[] symbols = new String[Singleton.Order.length];
+            for (int i = 0; i < symbols.length; i++) {
+                final Note.Singleton singleton = Singleton.Order[i];
+                final int n = (int) singleton.number;
+                Spelled[index(singleton.octave, singleton.pitch, singleton.accidental.cents)] = singleton;
+                if (singleton.accidental != Flat)
+                    Sharps[n] = singleton;
+                if (singleton.accidental != Sharp)
+                    Flats[n] = singleton;
+
+                symbols[i] = singleton.symbol;
+            }
+
+            Symbols = new Cache.Keywords(symbols);
+            for (final Note.Singleton singleton : Singleton.Order)
+                BySymbol[Symbols.indexOf(singleton.symbol)] = singleton;
+        }
+
+        /**
+         * Returns the spelled table index of the specified octave, pitch, and accidental cents.
+         *
+         * @param octave the octave.
+         * @param pitch the pitch.
+         * @param cents the accidental cents.
+         *
+         * @return the table index.
+         */
+        private static
+        int index(
+            final int octave,
+            final Pitch pitch,
+            final int cents
+            ) {
+            return ((octave - MinOctave) * 7 + pitch.ordinal()) * 3 + cents / 100 + 1;
+        }
+
+        /**
+         * Returns the singleton note with the specified octave, pitch, and accidental, or null if none is found.
+         * <p/>
+         * Only singletons with the same spelling are returned; enharmonic singletons, such as B3 for C flat 4, are not.
+         *
+         * @param octave the octave.
+         * @param pitch the pitch.
+         * @param accidental the accidental.
+         *
+         * @return the singleton note.
+         *
+         * @throws NullPointerException if the pitch or accidental is null.
+         */
+        static
+        Note.Singleton find(
+            final int octave,
+            final Pitch pitch,
+            final Accidental accidental
+            ) {
+            final int cents = accidental.cents;
+            return octave >= MinOctave && octave <= MaxOctave && cents >= -100 && cents <= 100 && cents % 100 == 0
+                   ? Spelled[index(octave, pitch, cents)]
+                   : null;
+        }
+    }
+
     /**
      * {@code Octave} categorizes all standard octaves.
      *
@@ -4568,167 +4733,13 @@ implements
         public static final
         Class<Note.Singleton> TYPE = Note.Singleton.class;
 
-        /** The array of note singletons. (ascending) */
+        /** The number of note singletons. */
+        private static final
+        short Count = 204;
+
+        /** The array of note singletons, in instantiation order. (ascending) */
         public static final
-        Note.Singleton[] Order
-        = new Note.Singleton[] {
-            C_1,
-            C_1s, D_1f,
-            D_1,
-            D_1s, E_1f,
-            E_1,
-            F_1,
-            F_1s, G_1f,
-            G_1,
-            G_1s, A_1f,
-
-            A_1,
-            A_1s, B_1f,
-            B_1,
-            C0,
-            C0s, D0f,
-            D0,
-            D0s, E0f,
-            E0,
-            F0,
-            F0s, G0f,
-            G0,
-            G0s, A0f,
-
-            A0,
-            A0s, B0f,
-            B0,
-            C1,
-            C1s, D1f,
-            D1,
-            D1s, E1f,
-            E1,
-            F1,
-            F1s, G1f,
-            G1,
-            G1s, A1f,
-
-            A1,
-            A1s, B1f,
-            B1,
-            C2,
-            C2s, D2f,
-            D2,
-            D2s, E2f,
-            E2,
-            F2,
-            F2s, G2f,
-            G2,
-            G2s, A2f,
-
-            A2,
-            A2s, B2f,
-            B2,
-            C3,
-            C3s, D3f,
-            D3,
-            D3s, E3f,
-            E3,
-            F3,
-            F3s, G3f,
-            G3,
-            G3s, A3f,
-
-            A3,
-            A3s, B3f,
-            B3,
-            C4,
-            C4s, D4f,
-            D4,
-            D4s, E4f,
-            E4,
-            F4,
-            F4s, G4f,
-            G4,
-            G4s, A4f,
-
-            A4,
-            A4s, B4f,
-            B4,
-            C5,
-            C5s, D5f,
-            D5,
-            D5s, E5f,
-            E5,
-            F5,
-            F5s, G5f,
-            G5,
-            G5s, A5f,
-
-            A5,
-            A5s, B5f,
-            B5,
-            C6,
-            C6s, D6f,
-            D6,
-            D6s, E6f,
-            E6,
-            F6,
-            F6s, G6f,
-            G6,
-            G6s, A6f,
-
-            A6,
-            A6s, B6f,
-            B6,
-            C7,
-            C7s, D7f,
-            D7,
-            D7s, E7f,
-            E7,
-            F7,
-            F7s, G7f,
-            G7,
-            G7s, A7f,
-
-            A7,
-            A7s, B7f,
-            B7,
-            C8,
-            C8s, D8f,
-            D8,
-            D8s, E8f,
-            E8,
-            F8,
-            F8s, G8f,
-            G8,
-            G8s, A8f,
-
-            A8,
-            A8s, B8f,
-            B8,
-            C8,
-            C9s, D9f,
-            D9,
-            D9s, E9f,
-            E9,
-            F9,
-            F9s, G9f,
-            G9,
-            G9s, A9f,
-
-            A9,
-            A9s, B9f,
-            B9,
-            C9,
-            C10s, D10f,
-            D10,
-            D10s, E10f,
-            E10,
-            F10,
-            F10s, G10f,
-            G10,
-            G10s, A10f,
-
-            A10,
-            A10s, B10f,
-            B10,
-        };
+        Note.Singleton[] Order = new Note.Singleton[Count];
 
         /** The instantiation counter. */
         private static
@@ -4770,6 +4781,7 @@ implements
             this.freq = freq;
             this.symbol = symbol;
             order = counter++;
+            Order[order] = this;
         }
 
         /**
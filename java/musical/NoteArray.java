@@ -0,0 +1,420 @@
+package musical;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.function.IntPredicate;
+
+/**
+ * {@code NoteArray} is a growable sequence of notes stored in parallel primitive columns.
+ * <p/>
+ * Each note is stored as its note number, the semitones of its accidental, and its adjustment in cents.
+ * The pitch and octave are derived from the number and the accidental, the same way {@link Note#number(byte, Note.Pitch, Note.Accidental)} computes the number.
+ * Accidentals are stored by their semitones, so non-standard accidentals are read back as their standard equivalents.
+ * <p/>
+ * The columns are exposed for analysis passes that work on the primitive values directly.
+ * Notes are created only when they are read, and the note singletons are returned whenever they match the stored note.
+ * <p/>
+ * Notes without octaves (pitch types) cannot be stored.
+ * <p/>
+ * Methods in this class implementation are not thread-safe.
+ *
+ * @since 1.8
+ * @author Alireza Kamran
+ */
+public
+class NoteArray
+implements Iterable<Note>
+{
+    /** The default initial capacity. */
+    public static final
+    int DefaultCapacity = 16;
+
+    /** The natural pitch for each pitch class, or null for the pitch classes of raised or lowered pitches. */
+    private static final
+    Note.Pitch[] Naturals = { Note.Pitch.C, null, Note.Pitch.D, null, Note.Pitch.E, Note.Pitch.F, null, Note.Pitch.G, null, Note.Pitch.A, null, Note.Pitch.B };
+
+    /** The note numbers. */
+    protected
+    short[] numbers;
+
+    /** The accidental semitones. */
+    protected
+    byte[] accidentals;
+
+    /** The adjustments in cents. */
+    protected
+    short[] adjustments;
+
+    /** The number of notes. */
+    protected
+    int size;
+
+    /**
+     * Creates an empty note array with the default initial capacity.
+     */
+    public
+    NoteArray() {
+        this(DefaultCapacity);
+    }
+
+    /**
+     * Creates an empty note array with the specified initial capacity.
+     *
+     * @param capacity the initial capacity.
+     *
+     * @throws NegativeArraySizeException if the capacity is negative.
+     */
+    public
+    NoteArray(
+        final int capacity
+        ) {
+        numbers = new short[capacity];
+        accidentals = new byte[capacity];
+        adjustments = new short[capacity];
+    }
+
+    /**
+     * Creates a note array containing the specified notes.
+     *
+     * @param notes the notes.
+     *
+     * @throws NullPointerException if the notes array or any of the notes is null.
+     * @throws IllegalArgumentException if any of the notes has no octave.
+     */
+    public
+    NoteArray(
+        final Note... notes
+        ) {
+        this(notes.length);
+        for (final Note note : notes)
+            add(note);
+    }
+
+    /**
+     * Appends the specified note.
+     *
+     * @param note the note.
+     *
+     * @throws NullPointerException if the note is null.
+     * @throws IllegalArgumentException if the note has no octave.
+     */
+    public
+    void add(
+        final Note note
+        ) {
+        if (note.octave == null)
+            throw new IllegalArgumentException();
+
+        add(Note.number(note.octave, note.pitch, note.accidental), note.accidental.getSemitones(), note.adjustment);
+    }
+
+    /**
+     * Appends a note with the specified number, accidental semitones, and adjustment in cents.
+     *
+     * @param number the note number.
+     * @param accidental the accidental semitones.
+     * @param adjustment the adjustment.
+     *
+     * @throws IllegalArgumentException if the accidental semitones are not between -2 and 2 or do not spell the note number from a natural pitch.
+     */
+    public
+    void add(
+        final short number,
+        final byte accidental,
+        final short adjustment
+        ) {
+        if (accidental < -2 || accidental > 2 || Naturals[Math.floorMod(number - accidental, 12)] == null)
+            throw new IllegalArgumentException();
+
+        if (size == numbers.length) {
+            final int capacity = Math.max(DefaultCapacity, size + (size >> 1));
+            numbers = Arrays.copyOf(numbers, capacity);
+            accidentals = Arrays.copyOf(accidentals, capacity);
+            adjustments = Arrays.copyOf(adjustments, capacity);
+        }
+
+        numbers[size] = number;
+        accidentals[size] = accidental;
+        adjustments[size++] = adjustment;
+    }
+
+    /**
+     * Returns a note array containing the notes that match the specified predicate.
+     * <p/>
+     * The predicate is tested with the index of each note, so that it can read any of the columns.
+     *
+     * @param predicate the index predicate.
+     *
+     * @return the filtered note array.
+     *
+     * @throws NullPointerException if the predicate is null.
+     */
+    public
+    NoteArray filter(
+        final IntPredicate predicate
+        ) {
+        final NoteArray filtered = new NoteArray(size);
+        for (int i = 0; i < size; i++)
+            if (predicate.test(i)) {
+                filtered.numbers[filtered.size] = numbers[i];
+                filtered.accidentals[filtered.size] = accidentals[i];
+                filtered.adjustments[filtered.size++] = adjustments[i];
+            }
+
+        return filtered;
+    }
+
+    /**
+     * Returns the note at the specified index.
+     * <p/>
+     * If the note has no adjustment and matches a note singleton, the singleton is returned; otherwise a new note is created.
+     *
+     * @param index the index.
+     *
+     * @return the note.
+     *
+     * @throws IndexOutOfBoundsException if the index is out of range.
+     */
+    public
+    Note get(
+        final int index
+        ) {
+        final byte octave = getOctave(index);
+        final Note.Pitch pitch = getPitch(index);
+        final Note.Accidental accidental = getAccidental(index);
+        if (adjustments[index] == 0) {
+            final Note singleton = Note.tune(octave, pitch, accidental);
+            if (singleton != null && singleton.pitch == pitch && singleton.accidental == accidental)
+                return singleton;
+        }
+
+        return new Note(octave, pitch, accidental, adjustments[index]);
+    }
+
+    /**
+     * Respells every note enharmonically by rotating its accidental, the same way {@link Note#invert()} does.
+     * The note numbers are unchanged, and notes that cannot be respelled with the rotated accidental become natural if possible.
+     */
+    public
+    void invert() {
+        for (int i = 0; i < size; i++)
+            accidentals[i] = spell(numbers[i], (byte) -accidentals[i], accidentals[i]);
+    }
+
+    /**
+     * Mirrors every note around the specified note number, and mirrors the accidentals and adjustments with them.
+     *
+     * @param axis the axis note number.
+     */
+    public
+    void invert(
+        final short axis
+        ) {
+        for (int i = 0; i < size; i++) {
+            numbers[i] = (short) (2 * axis - numbers[i]);
+            accidentals[i] = spell(numbers[i], (byte) -accidentals[i], (byte) -accidentals[i]);
+            adjustments[i] = (short) -adjustments[i];
+        }
+    }
+
+    /**
+     * Returns an iterator over the notes.
+     *
+     * @return the iterator.
+     *
+     * @see #get(int)
+     */
+    @Override
+    public
+    Iterator<Note> iterator() {
+        return new Iterator<Note>() {
+            /** The next index. */
+            private int index;
+
+            @Override
+            public boolean hasNext() {
+                return index < size;
+            }
+
+            @Override
+            public Note next() {
+                if (index >= size)
+                    throw new NoSuchElementException();
+
+                return get(index++);
+            }
+        };
+    }
+
+    /**
+     * Returns the number of notes.
+     *
+     * @return the number of notes.
+     */
+    public
+    int size() {
+        return size;
+    }
+
+    /**
+     * Returns an array of the notes.
+     *
+     * @return the notes.
+     *
+     * @see #get(int)
+     */
+    public
+    Note[] toArray() {
+        final Note[] notes = new Note[size];
+        for (int i = 0; i < size; i++)
+            notes[i] = get(i);
+
+        return notes;
+    }
+
+    /**
+     * Transposes every note by the specified semitones.
+     * <p/>
+     * Notes that land on natural pitches become natural, and the other notes keep the direction of their accidentals, or take the direction of the transposition if they were natural.
+     *
+     * @param semitones the semitones.
+     */
+    public
+    void transpose(
+        final int semitones
+        ) {
+        final byte raised = (byte) (semitones < 0
+                                    ? -1
+                                    : 1);
+        for (int i = 0; i < size; i++) {
+            numbers[i] += semitones;
+            accidentals[i] = spell(numbers[i], accidentals[i], accidentals[i] == 0
+                                                               ? raised
+                                                               : accidentals[i]);
+        }
+    }
+
+    /**
+     * Returns the accidental semitones column.
+     * Only the first {@link #size()} elements are notes, and changes to the column are written through.
+     *
+     * @return the accidental semitones.
+     */
+    public
+    byte[] getAccidentals() {
+        return accidentals;
+    }
+
+    /**
+     * Returns the accidental of the note at the specified index.
+     *
+     * @param index the index.
+     *
+     * @return the accidental.
+     *
+     * @throws IndexOutOfBoundsException if the index is out of range.
+     */
+    public
+    Note.Accidental getAccidental(
+        final int index
+        ) {
+        checkIndex(index);
+        return Scale.Accidental.withSemitone(accidentals[index]);
+    }
+
+    /**
+     * Returns the adjustments column, in cents.
+     * Only the first {@link #size()} elements are notes, and changes to the column are written through.
+     *
+     * @return the adjustments.
+     */
+    public
+    short[] getAdjustments() {
+        return adjustments;
+    }
+
+    /**
+     * Returns the note numbers column.
+     * Only the first {@link #size()} elements are notes, and changes to the column are written through.
+     *
+     * @return the note numbers.
+     */
+    public
+    short[] getNumbers() {
+        return numbers;
+    }
+
+    /**
+     * Returns the octave of the note at the specified index.
+     *
+     * @param index the index.
+     *
+     * @return the octave.
+     *
+     * @throws IndexOutOfBoundsException if the index is out of range.
+     */
+    public
+    byte getOctave(
+        final int index
+        ) {
+        checkIndex(index);
+        return (byte) (Math.floorDiv(numbers[index], 12) - 1);
+    }
+
+    /**
+     * Returns the pitch of the note at the specified index.
+     *
+     * @param index the index.
+     *
+     * @return the pitch.
+     *
+     * @throws IndexOutOfBoundsException if the index is out of range.
+     */
+    public
+    Note.Pitch getPitch(
+        final int index
+        ) {
+        checkIndex(index);
+        return Naturals[Math.floorMod(numbers[index] - accidentals[index], 12)];
+    }
+
+    /**
+     * Returns the specified accidental semitones if they spell the note number from a natural pitch; otherwise returns zero if the note number is a natural pitch, or a single semitone in the direction of the specified fallback otherwise.
+     *
+     * @param number the note number.
+     * @param accidental the accidental semitones.
+     * @param fallback the fallback direction.
+     *
+     * @return the spelling accidental semitones.
+     */
+    private static
+    byte spell(
+        final int number,
+        final byte accidental,
+        final byte fallback
+        ) {
+        return Naturals[Math.floorMod(number - accidental, 12)] != null
+               ? accidental
+               : Naturals[Math.floorMod(number, 12)] != null
+                 ? 0
+                 : (byte) (fallback < 0
+                           ? -1
+                           : 1);
+    }
+
+    /**
+     * Throws an {@code IndexOutOfBoundsException} if the specified index is out of range.
+     *
+     * @param index the index.
+     *
+     * @throws IndexOutOfBoundsException if the index is out of range.
+     */
+    private
+    void checkIndex(
+        final int index
+        ) {
+        if (index < 0 || index >= size)
+            throw new IndexOutOfBoundsException(Integer.toString(index));
+    }
+}
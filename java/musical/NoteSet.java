@@ -0,0 +1,606 @@
+package musical;
+
+import static system.data.Constant.OrderOutOfRange;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * {@code NoteSet} is a set of whole note numbers stored as a bitset.
+ * <p/>
+ * Bit {@code n} of the set is bit {@code n & 63} of word {@code n >> 6}, so the sets of any range are aligned to each other and set algebra is done a word at a time.
+ * The words are allocated for the singleton range by default, which takes three words, and grow towards lower and higher numbers as needed, up to the full range of {@link Note#MIN_VALUE} to {@link Note#MAX_VALUE}.
+ * Transposition keeps only the words between the lowest and highest numbers, so repeated transpositions do not grow the set.
+ * <p/>
+ * Note numbers are read back as new notes, spelled with sharps for accidentals; so the spelling of the added notes is not kept.
+ * <p/>
+ * Methods in this class implementation are not thread-safe.
+ *
+ * @since 1.8
+ * @author Alireza Kamran
+ */
+public
+class NoteSet
+implements
+    Cloneable,
+    Iterable<Note>
+{
+    /** The default number of words, covering the numbers 0 to 191. */
+    private static final
+    int DefaultWords = 3;
+
+    /** The value returned by the search methods when no number is found. */
+    public static final
+    int NotFound = Integer.MIN_VALUE;
+
+    /** The natural pitch for each pitch class, or the pitch raised by a sharp for the other pitch classes. */
+    private static final
+    Note.Pitch[] Pitches = { Note.Pitch.C, Note.Pitch.C, Note.Pitch.D, Note.Pitch.D, Note.Pitch.E, Note.Pitch.F, Note.Pitch.F, Note.Pitch.G, Note.Pitch.G, Note.Pitch.A, Note.Pitch.A, Note.Pitch.B };
+
+    /** The words. */
+    private
+    long[] words;
+
+    /** The index of the first word. */
+    private
+    int offset;
+
+    /**
+     * Creates an empty note set.
+     */
+    public
+    NoteSet() {
+        words = new long[DefaultWords];
+    }
+
+    /**
+     * Creates a note set containing the specified note numbers.
+     *
+     * @param numbers the note numbers.
+     *
+     * @throws NullPointerException if the numbers array is null.
+     * @throws IllegalArgumentException if any of the numbers is out of range.
+     */
+    public
+    NoteSet(
+        final int... numbers
+        ) {
+        this();
+        for (final int number : numbers)
+            add(number);
+    }
+
+    /**
+     * Creates a note set equal to the specified note set.
+     *
+     * @param set the note set.
+     *
+     * @throws NullPointerException if the note set is null.
+     */
+    public
+    NoteSet(
+        final NoteSet set
+        ) {
+        words = set.words.clone();
+        offset = set.offset;
+    }
+
+    /**
+     * Adds the specified note number, and returns true if the set changes; otherwise returns false.
+     *
+     * @param number the note number.
+     *
+     * @return true if the number is added, and false otherwise.
+     *
+     * @throws IllegalArgumentException if the number is out of range.
+     */
+    public
+    boolean add(
+        final int number
+        ) {
+        if (number < Note.MIN_VALUE || number > Note.MAX_VALUE)
+            throw new IllegalArgumentException(OrderOutOfRange);
+
+        ensure(number >> 6, number >> 6);
+        final int i = (number >> 6) - offset;
+        final long word = words[i];
+        words[i] |= 1L << number;
+        return word != words[i];
+    }
+
+    /**
+     * Adds the number of the specified note, and returns true if the set changes; otherwise returns false.
+     *
+     * @param note the note.
+     *
+     * @return true if the number is added, and false otherwise.
+     *
+     * @throws NullPointerException if the note is null.
+     * @throws IllegalArgumentException if the note number is not whole, or is out of range.
+     */
+    public
+    boolean add(
+        final Note note
+        ) {
+        return add(number(note));
+    }
+
+    /**
+     * Removes all numbers that are not in the specified set.
+     *
+     * @param set the note set.
+     *
+     * @throws NullPointerException if the note set is null.
+     */
+    public
+    void and(
+        final NoteSet set
+        ) {
+        for (int i = 0; i < words.length; i++)
+            words[i] &= set.word(offset + i);
+    }
+
+    /**
+     * Removes all numbers that are in the specified set.
+     *
+     * @param set the note set.
+     *
+     * @throws NullPointerException if the note set is null.
+     */
+    public
+    void andNot(
+        final NoteSet set
+        ) {
+        for (int i = 0; i < words.length; i++)
+            words[i] &= ~set.word(offset + i);
+    }
+
+    /**
+     * Removes all numbers.
+     */
+    public
+    void clear() {
+        Arrays.fill(words, 0);
+    }
+
+    /**
+     * Creates and returns a copy of this note set.
+     *
+     * @return the copy.
+     */
+    @Override
+    public NoteSet clone() {
+        return new NoteSet(this);
+    }
+
+    /**
+     * Returns true if the set contains the specified note number; otherwise returns false.
+     *
+     * @param number the note number.
+     *
+     * @return true if the number is in the set, and false otherwise.
+     */
+    public
+    boolean contains(
+        final int number
+        ) {
+        return (word(number >> 6) & 1L << number) != 0;
+    }
+
+    /**
+     * Returns true if the set contains the number of the specified note; otherwise returns false.
+     * <p/>
+     * Notes whose numbers are not whole are never contained.
+     *
+     * @param note the note.
+     *
+     * @return true if the note number is in the set, and false otherwise.
+     *
+     * @throws NullPointerException if the note is null.
+     */
+    public
+    boolean contains(
+        final Note note
+        ) {
+        final float number = note.getNumber();
+        return number == (int) number && contains((int) number);
+    }
+
+    /**
+     * Returns true if the set contains all the numbers in the specified set; otherwise returns false.
+     *
+     * @param set the note set.
+     *
+     * @return true if the specified set is a subset of this set, and false otherwise.
+     *
+     * @throws NullPointerException if the note set is null.
+     */
+    public
+    boolean containsAll(
+        final NoteSet set
+        ) {
+        for (int i = 0; i < set.words.length; i++)
+            if ((set.words[i] & ~word(set.offset + i)) != 0)
+                return false;
+
+        return true;
+    }
+
+    /**
+     * Returns the lowest number in the set, or {@link #NotFound} if the set is empty.
+     *
+     * @return the lowest number.
+     */
+    public
+    int first() {
+        return next(Note.MIN_VALUE);
+    }
+
+    /**
+     * Returns true if the set and the specified set have a number in common; otherwise returns false.
+     *
+     * @param set the note set.
+     *
+     * @return true if the sets intersect, and false otherwise.
+     *
+     * @throws NullPointerException if the note set is null.
+     */
+    public
+    boolean intersects(
+        final NoteSet set
+        ) {
+        for (int i = 0; i < words.length; i++)
+            if ((words[i] & set.word(offset + i)) != 0)
+                return true;
+
+        return false;
+    }
+
+    /**
+     * Returns true if the set is empty; otherwise returns false.
+     *
+     * @return true if the set is empty, and false otherwise.
+     */
+    public
+    boolean isEmpty() {
+        for (final long word : words)
+            if (word != 0)
+                return false;
+
+        return true;
+    }
+
+    /**
+     * Returns an iterator over the notes of the numbers in the set, from the lowest to the highest.
+     * <p/>
+     * A new note is created for each number, spelled with a sharp for an accidental.
+     *
+     * @return the iterator.
+     */
+    @Override
+    public Iterator<Note> iterator() {
+        return new Iterator<Note>() {
+            /** The next number. */
+            private int number = first();
+
+            @Override
+            public boolean hasNext() {
+                return number != NotFound;
+            }
+
+            @Override
+            public Note next() {
+                if (number == NotFound)
+                    throw new NoSuchElementException();
+
+                final Note note = note(number);
+                number = number == Note.MAX_VALUE
+                         ? NotFound
+                         : NoteSet.this.next(number + 1);
+                return note;
+            }
+        };
+    }
+
+    /**
+     * Returns the highest number in the set, or {@link #NotFound} if the set is empty.
+     *
+     * @return the highest number.
+     */
+    public
+    int last() {
+        for (int i = words.length - 1; i >= 0; i--)
+            if (words[i] != 0)
+                return (offset + i << 6) + 63 - Long.numberOfLeadingZeros(words[i]);
+
+        return NotFound;
+    }
+
+    /**
+     * Returns the lowest number in the set that is greater than or equal to the specified number, or {@link #NotFound} if there is none.
+     *
+     * @param from the number to start from.
+     *
+     * @return the next number.
+     */
+    public
+    int next(
+        final int from
+        ) {
+        int i = Math.max((from >> 6) - offset, 0);
+        if (i >= words.length)
+            return NotFound;
+
+        long word = (from >> 6) - offset == i
+                    ? words[i] & -1L << from
+                    : words[i];
+        while (word == 0) {
+            if (++i == words.length)
+                return NotFound;
+
+            word = words[i];
+        }
+
+        return (offset + i << 6) + Long.numberOfTrailingZeros(word);
+    }
+
+    /**
+     * Adds all numbers in the specified set.
+     *
+     * @param set the note set.
+     *
+     * @throws NullPointerException if the note set is null.
+     */
+    public
+    void or(
+        final NoteSet set
+        ) {
+        int first = set.words.length;
+        int last = -1;
+        for (int i = 0; i < set.words.length; i++)
+            if (set.words[i] != 0) {
+                first = Math.min(first, i);
+                last = i;
+            }
+
+        if (last < 0)
+            return;
+
+        ensure(set.offset + first, set.offset + last);
+        for (int i = first; i <= last; i++)
+            words[set.offset + i - offset] |= set.words[i];
+    }
+
+    /**
+     * Returns the 12-bit mask of the pitch classes of the numbers in the set, with bit 0 for C.
+     *
+     * @return the pitch-class mask.
+     */
+    public
+    int pitchClasses() {
+        int mask = 0;
+        for (int i = 0; i < words.length; i++)
+            for (long word = words[i]; word != 0; word &= word - 1)
+                mask |= 1 << Math.floorMod((offset + i << 6) + Long.numberOfTrailingZeros(word), 12);
+
+        return mask;
+    }
+
+    /**
+     * Removes the specified note number, and returns true if the set changes; otherwise returns false.
+     *
+     * @param number the note number.
+     *
+     * @return true if the number is removed, and false otherwise.
+     */
+    public
+    boolean remove(
+        final int number
+        ) {
+        if (!contains(number))
+            return false;
+
+        words[(number >> 6) - offset] &= ~(1L << number);
+        return true;
+    }
+
+    /**
+     * Removes the number of the specified note, and returns true if the set changes; otherwise returns false.
+     *
+     * @param note the note.
+     *
+     * @return true if the number is removed, and false otherwise.
+     *
+     * @throws NullPointerException if the note is null.
+     */
+    public
+    boolean remove(
+        final Note note
+        ) {
+        final float number = note.getNumber();
+        return number == (int) number && remove((int) number);
+    }
+
+    /**
+     * Returns the number of numbers in the set.
+     *
+     * @return the size.
+     */
+    public
+    int size() {
+        int size = 0;
+        for (final long word : words)
+            size += Long.bitCount(word);
+
+        return size;
+    }
+
+    /**
+     * Moves every number in the set by the specified semitones.
+     *
+     * @param semitones the semitones.
+     *
+     * @throws IllegalArgumentException if a moved number is out of range.
+     */
+    public
+    void transpose(
+        final int semitones
+        ) {
+        final int first = first();
+        if (first == NotFound)
+            return;
+
+        final int last = last();
+        if (first + semitones < Note.MIN_VALUE || last + semitones > Note.MAX_VALUE)
+            throw new IllegalArgumentException(OrderOutOfRange);
+
+        final int shift = semitones & 63;
+        if (shift == 0) {
+            offset += semitones >> 6;
+            return;
+        }
+
+        final int from = first + semitones >> 6;
+        final long[] shifted = new long[(last + semitones >> 6) - from + 1];
+        for (int w = first >> 6; w <= last >> 6; w++) {
+            final long word = word(w);
+            if (word == 0)
+                continue;
+
+            final int i = ((w << 6) + semitones - shift >> 6) - from;
+            if (i >= 0)
+                shifted[i] |= word << shift;
+            if (i + 1 < shifted.length)
+                shifted[i + 1] |= word >>> 64 - shift;
+        }
+
+        words = shifted;
+        offset = from;
+    }
+
+    /**
+     * Returns true if the specified object is a note set with the same numbers as this set; otherwise returns false.
+     *
+     * @param obj the object.
+     *
+     * @return true if the sets are equal, and false otherwise.
+     */
+    @Override
+    public boolean equals(final Object obj) {
+        if (!(obj instanceof NoteSet))
+            return false;
+
+        final NoteSet set = (NoteSet) obj;
+        final int from = Math.min(offset, set.offset);
+        final int to = Math.max(offset + words.length, set.offset + set.words.length);
+        for (int w = from; w < to; w++)
+            if (word(w) != set.word(w))
+                return false;
+
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        long hash = 0;
+        for (int i = 0; i < words.length; i++)
+            if (words[i] != 0)
+                hash = 31 * (31 * hash + offset + i) + words[i];
+
+        return Long.hashCode(hash);
+    }
+
+    @Override
+    public String toString() {
+        final StringBuilder string = new StringBuilder("[");
+        for (int n = first(); n != NotFound; n = n == Note.MAX_VALUE
+                                                  ? NotFound
+                                                  : next(n + 1)) {
+            if (string.length() > 1)
+                string.append(", ");
+
+            string.append(n);
+        }
+
+        return string.append(']').toString();
+    }
+
+    /**
+     * Grows the words, if needed, to include the specified range of word indices.
+     *
+     * @param first the first word index.
+     * @param last the last word index.
+     */
+    private
+    void ensure(
+        final int first,
+        final int last
+        ) {
+        if (first >= offset && last < offset + words.length)
+            return;
+
+        final int from = Math.min(first, offset);
+        final int to = Math.max(last + 1, offset + words.length);
+        final long[] grown = new long[to - from];
+        System.arraycopy(words, 0, grown, offset - from, words.length);
+        words = grown;
+        offset = from;
+    }
+
+    /**
+     * Returns a new note of the specified number, spelled with a sharp if it is not a natural pitch.
+     * <p/>
+     * Note singletons are not returned, since the caller can modify the notes.
+     *
+     * @param number the note number.
+     *
+     * @return the note.
+     */
+    private static
+    Note note(
+        final int number
+        ) {
+        final int pc = Math.floorMod(number, 12);
+        return new Note(Math.floorDiv(number, 12) - 1, Pitches[pc], pc == Pitches[pc].order
+                                                                    ? Note.Accidental.Natural
+                                                                    : Note.Accidental.Sharp, 0);
+    }
+
+    /**
+     * Returns the whole number of the specified note.
+     *
+     * @param note the note.
+     *
+     * @return the note number.
+     *
+     * @throws IllegalArgumentException if the note number is not whole.
+     */
+    private static
+    int number(
+        final Note note
+        ) {
+        final float number = note.getNumber();
+        if (number != (int) number)
+            throw new IllegalArgumentException();
+
+        return (int) number;
+    }
+
+    /**
+     * Returns the word at the specified word index, or zero if the index is outside the words.
+     *
+     * @param w the word index.
+     *
+     * @return the word.
+     */
+    private
+    long word(
+        final int w
+        ) {
+        final int i = w - offset;
+        return i < 0 || i >= words.length
+               ? 0
+               : words[i];
+    }
+}
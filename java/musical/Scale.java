@@ -5,6 +5,7 @@ import static musical.Constant.Note.Accidental.DoubleSharpSym;
 import static musical.Constant.Note.Accidental.NaturalFlatSym;
 import static musical.Constant.Note.Accidental.NaturalSharpSym;
 
+import java.util.Arrays;
 import java.util.function.Function;
 import java.util.function.Predicate;
 
@@ -59,9 +60,21 @@ implements
     protected final
     Interval[] intervals;
 
-    /** The degrees representing the fundamental notes in the defined scale. */
-    private
-    Range[] degree;
+    /** The degrees representing the fundamental notes in the defined scale, or null if they are not computed for the current root. */
+    private volatile
+    Degrees degrees;
+
+    /** The pitch classes of the scale notes relative to the root, as a 12-bit mask. */
+    protected final
+    short mask;
+
+    /** The cents of the scale notes relative to the root, as a 1200-bit mask; or null if all intervals are whole semitones. */
+    protected final
+    long[] centsMask;
+
+    /** The flag indicating if the masks describe the intervals exactly; that is, the intervals have the same direction and cover exactly one octave. */
+    private final
+    boolean exact;
 
     /**
      * Creates a scale with the specified intervals.
@@ -74,7 +87,9 @@ implements
         ) {
         super(getCents(intervals));
         this.intervals = intervals;
-        degree = new Range[intervals.length + 1];
+        mask = getMask(intervals);
+        centsMask = getCentsMask(intervals);
+        exact = isExact(intervals);
     }
 
     /**
@@ -163,6 +178,116 @@ implements
         return max - min;
     }
 
+    /**
+     * Returns the 12-bit mask of the pitch classes of the notes of the specified intervals array, relative to the first note.
+     *
+     * @param intervals the intervals array.
+     * @return the pitch-class mask.
+     */
+    private static
+    short getMask(
+        final Interval[] intervals
+        ) {
+        int mask = 1;
+        int semitones = 0;
+        for (final Interval interval : intervals) {
+            semitones += interval.getSemitones();
+            mask |= 1 << Math.floorMod(semitones, 12);
+        }
+
+        return (short) mask;
+    }
+
+    /**
+     * Returns the 1200-bit mask of the cents of the notes of the specified intervals array, relative to the first note; or null if all intervals are whole semitones.
+     *
+     * @param intervals the intervals array.
+     * @return the cents mask, or null.
+     */
+    private static
+    long[] getCentsMask(
+        final Interval[] intervals
+        ) {
+        boolean microtonal = false;
+        for (final Interval interval : intervals)
+            if (interval.cents % 100 != 0) {
+                microtonal = true;
+                break;
+            }
+
+        if (!microtonal)
+            return null;
+
+        final long[] mask = new long[(1200 + 63) / 64];
+        mask[0] = 1;
+        int cents = 0;
+        for (final Interval interval : intervals) {
+            cents = Math.floorMod(cents + interval.cents, 1200);
+            mask[cents >>> 6] |= 1L << cents;
+        }
+
+        return mask;
+    }
+
+    /**
+     * Returns the pitch class of the specified pitch and accidental relative to the specified root, between 0 and 11.
+     *
+     * @param root the root.
+     * @param pitch the pitch.
+     * @param accidental the accidental.
+     * @return the relative pitch class.
+     */
+    private static
+    int getPitchClass(
+        final musical.Note root,
+        final Note.Pitch pitch,
+        final musical.Note.Accidental accidental
+        ) {
+        return Math.floorMod(pitch.order + accidental.getSemitones() - root.pitch.order - root.accidental.getSemitones(), 12);
+    }
+
+    /**
+     * Returns true if the specified intervals are non-zero, have the same direction, and cover exactly one octave; and false otherwise.
+     *
+     * @param intervals the intervals array.
+     * @return true if the scale masks describe the intervals exactly, and false otherwise.
+     */
+    private static
+    boolean isExact(
+        final Interval[] intervals
+        ) {
+        if (intervals.length == 0)
+            return false;
+
+        final int direction = Integer.signum(intervals[0].cents);
+        int cents = 0;
+        for (final Interval interval : intervals) {
+            if (interval.cents == 0 || Integer.signum(interval.cents) != direction)
+                return false;
+
+            cents += interval.cents;
+        }
+
+        return Math.abs(cents) == 1200;
+    }
+
+    /**
+     * Returns the specified 12-bit pitch-class mask rotated down by the specified semitones, so that the pitch class at the specified semitones becomes the root.
+     *
+     * @param mask the pitch-class mask.
+     * @param semitones the semitones.
+     * @return the rotated mask.
+     */
+    public static
+    short rotate(
+        final short mask,
+        final int semitones
+        ) {
+        final int s = Math.floorMod(semitones, 12);
+        final int m = mask & 0xFFF;
+        return (short) ((m >>> s | m << 12 - s) & 0xFFF);
+    }
+
     /**
      * Returns the intervals array for distances between the specified notes.
      *
@@ -178,7 +303,7 @@ implements
 
         final Interval[] intervals = new Interval[notes.length - 1];
         for (int i = 1; i < notes.length; i++)
-            intervals[i - 1] = new Interval(notes[i].getDistance(notes[i - 1]));
+            intervals[i - 1] = new Interval(notes[i - 1].getDistance(notes[i]));
 
         return intervals;
     }
@@ -442,6 +567,97 @@ implements
         return false;
     }
 
+    /**
+     * Returns true if the scale contains a note with the specified pitch and accidental in any octave, or false otherwise.
+     * <p/>
+     * This implementation tests the pitch-class mask of the scale, and returns false if the scale has a null root.
+     *
+     * @param pitch the note pitch.
+     * @param accidental the note accidental.
+     * @return true if a scale note has the same pitch class, and false otherwise.
+     */
+    public
+    boolean contains(
+        final Note.Pitch pitch,
+        final musical.Note.Accidental accidental
+        ) {
+        final musical.Note root = getRoot();
+        return root != null &&
+               containsCents(getPitchClass(root, pitch, accidental) * 100);
+    }
+
+    /**
+     * Returns true if the scale contains a note with the pitch class and adjustment of the specified note in any octave, or false otherwise.
+     * <p/>
+     * This implementation tests the pitch-class mask of the scale, or the cents mask for microtonal scales, and returns false if the scale has a null root.
+     *
+     * @param note the note.
+     * @return true if a scale note has the same pitch class and adjustment, and false otherwise.
+     */
+    public
+    boolean contains(
+        final musical.Note note
+        ) {
+        final musical.Note root = getRoot();
+        return root != null &&
+               containsCents(getPitchClass(root, note.pitch, note.accidental) * 100 + note.adjustment);
+    }
+
+    /**
+     * Returns true if the scale contains a note at the specified cents above the root in any octave, or false otherwise.
+     * <p/>
+     * Scales without microtonal intervals contain only whole semitones above the root.
+     *
+     * @param cents the cents above the root.
+     * @return true if a scale note is at the specified cents, and false otherwise.
+     */
+    public
+    boolean containsCents(
+        final int cents
+        ) {
+        final int c = Math.floorMod(cents, 1200);
+        return centsMask == null
+               ? c % 100 == 0 && (mask & 1 << c / 100) != 0
+               : (centsMask[c >>> 6] & 1L << c) != 0;
+    }
+
+    /**
+     * Returns the index of the scale note at the specified cents above the root in any octave, or the scale size if there is none.
+     * <p/>
+     * The index is the rank of the cents in the scale masks, so this method requires the masks to be exact.
+     *
+     * @param cents the cents above the root.
+     * @return the index of the scale note, or the scale size.
+     */
+    private
+    int indexOfCents(
+        final int cents
+        ) {
+        if (!containsCents(cents))
+            return size();
+
+        final int c = Math.floorMod(cents, 1200);
+        int below;
+        int all;
+        if (centsMask == null) {
+            below = Integer.bitCount(mask & (1 << c / 100) - 1);
+            all = Integer.bitCount(mask);
+        }
+        else {
+            below = Long.bitCount(centsMask[c >>> 6] & (1L << c) - 1);
+            for (int i = 0; i < c >>> 6; i++)
+                below += Long.bitCount(centsMask[i]);
+
+            all = 0;
+            for (final long bits : centsMask)
+                all += Long.bitCount(bits);
+        }
+
+        return intervals[0].cents > 0 || c == 0
+               ? below
+               : all - below;
+    }
+
     /**
      * Returns the index of the first note with the specified octave, pitch, accidental, and adjustment in the scale.
      * <p/>
@@ -460,12 +676,20 @@ implements
         final musical.Note.Accidental accidental,
         final Number adjustment
         ) {
-        if (getRoot() == null)
-            return intervals.length;
+        final musical.Note root = getRoot();
+        if (root == null)
+            return size();
 
-        int i = 0;
-        while (!contains(octave, pitch, accidental, adjustment, i++));
-        return i;
+        if (octave == null && exact)
+            return indexOfCents(getPitchClass(root, pitch, accidental) * 100 + (adjustment == null
+                                                                                ? 0
+                                                                                : adjustment.intValue()));
+
+        for (int i = 0; i < size(); i++)
+            if (contains(octave, pitch, accidental, adjustment, i))
+                return i;
+
+        return size();
     }
 
     /**
@@ -484,12 +708,18 @@ implements
         final Note.Pitch pitch,
         final musical.Note.Accidental accidental
         ) {
-        if (getRoot() == null)
-            return intervals.length;
+        final musical.Note root = getRoot();
+        if (root == null)
+            return size();
 
-        int i = 0;
-        while (!contains(octave, pitch, accidental, i++));
-        return i;
+        if (octave == null && exact)
+            return indexOfCents(getPitchClass(root, pitch, accidental) * 100);
+
+        for (int i = 0; i < size(); i++)
+            if (contains(octave, pitch, accidental, i))
+                return i;
+
+        return size();
     }
 
     /**
@@ -523,11 +753,7 @@ implements
         final Note.Pitch pitch,
         final musical.Note.Accidental accidental
         ) {
-        if (getRoot() == null)
-            return intervals.length;
-        int i = 0;
-        while (!contains(pitch, accidental, i++));
-        return i;
+        return indexOf(null, pitch, accidental);
     }
 
     /**
@@ -557,12 +783,18 @@ implements
     int indexOf(
         final musical.Note note
         ) {
-        if (getRoot() == null)
-            return intervals.length;
+        final musical.Note root = getRoot();
+        if (root == null)
+            return size();
 
-        int i = 0;
-        while (!contains(note, i++));
-        return i;
+        if (note.octave == null && exact)
+            return indexOfCents(getPitchClass(root, note.pitch, note.accidental) * 100 + note.adjustment);
+
+        for (int i = 0; i < size(); i++)
+            if (contains(note, i))
+                return i;
+
+        return size();
     }
 
     /**
@@ -609,6 +841,7 @@ implements
      * Returns true if the specified scale has the same intervals appearing in the same order as this scale, and false otherwise.
      * <p/>
      * This implementation does not account for the {@code adjustments} values.
+     * If the masks of both scales are exact, the masks are compared instead of the intervals.
      *
      * @param scale the scale.
      * @return true if the scales have the same intervals, and false otherwise.
@@ -620,6 +853,10 @@ implements
         if (scale == null || intervals.length != scale.intervals.length)
             return false;
 
+        if (hasExactMasks(scale))
+            return mask == scale.mask &&
+                   Arrays.equals(centsMask, scale.centsMask);
+
         for (int i = 0; i < intervals.length; i++)
             if (intervals[i].cents != scale.intervals[i].cents)
                 return false;
@@ -641,18 +878,17 @@ implements
         final Scale scale,
         int i
         ) {
-        if (scale == null || i >= scale.intervals.length)
+        if (scale == null || i >= scale.intervals.length || i >= intervals.length)
             return false;
 
-        final int cents = intervals[i].cents;
         final int k = intervals.length - 1;
         for (int j = 0; j < scale.intervals.length; j++) {
-            if (cents != scale.intervals[j].cents)
+            if (intervals[i].cents != scale.intervals[j].cents)
                 return false;
 
             i = i == k
                 ? 0
-                : i++;
+                : i + 1;
         }
 
         return true;
@@ -664,6 +900,7 @@ implements
      * This method can be used to verify if the specified scale is a mode of this scale.
      * <p/>
      * This implementation does not account for the {@code adjustments} values.
+     * If the masks of both scales are exact and the scales have no microtonal intervals, the rotations of the pitch-class mask of this scale are compared instead of the intervals.
      *
      * @param scale the scale.
      * @return true if the scales have the same mode, and false otherwise.
@@ -675,6 +912,14 @@ implements
         if (scale == null || intervals.length != scale.intervals.length)
             return false;
 
+        if (hasExactMasks(scale) && centsMask == null && scale.centsMask == null) {
+            for (int bits = mask & 0xFFF; bits != 0; bits &= bits - 1)
+                if (rotate(mask, Integer.numberOfTrailingZeros(bits)) == scale.mask)
+                    return true;
+
+            return false;
+        }
+
         for (int i = 0; i < intervals.length; i++)
             if (hasEqualIntervalSequence(scale, i))
                 return true;
@@ -709,6 +954,55 @@ implements
         return false;
     }
 
+    /**
+     * Returns true if the masks of this scale and the specified scale describe their intervals exactly and the scales have the same direction, and false otherwise.
+     *
+     * @param scale the scale.
+     * @return true if the scales can be compared by their masks, and false otherwise.
+     */
+    private
+    boolean hasExactMasks(
+        final Scale scale
+        ) {
+        return exact &&
+               scale.exact &&
+               Integer.signum(intervals[0].cents) == Integer.signum(scale.intervals[0].cents);
+    }
+
+    /**
+     * Returns the 12-bit mask of the pitch classes of the scale notes relative to the root.
+     * <p/>
+     * Bit {@code k} is set if a scale note is {@code k} semitones above the root, in any octave.
+     * Microtonal intervals are rounded to the nearest semitone.
+     *
+     * @return the pitch-class mask.
+     */
+    public
+    short getMask() {
+        return mask;
+    }
+
+    /**
+     * Returns the 12-bit mask of the pitch classes of the mode starting at the scale note at the specified index, relative to that note.
+     *
+     * @param i the scale note index.
+     * @return the pitch-class mask of the mode.
+     * @throws IndexOutOfBoundsException if the index is out of range.
+     */
+    public
+    short getMask(
+        final int i
+        ) {
+        if (i < 0 || i >= size())
+            throw new IndexOutOfBoundsException(Integer.toString(i));
+
+        int semitones = 0;
+        for (int j = 0; j < i; j++)
+            semitones += intervals[j].getSemitones();
+
+        return rotate(mask, semitones);
+    }
+
     /**
      * Returns true if the scale is an ascending scale, and false otherwise.
      *
@@ -842,7 +1136,7 @@ implements
     /**
      * Sets the scale root.
      * <p/>
-     * This implementation synchronously performs a required data reset.
+     * This implementation discards the degree table, which is recomputed for the new root when it is next used.
      *
      * @param root the scale root.
      */
@@ -850,10 +1144,7 @@ implements
     void setRoot(
         musical.Note root
         ) {
-        synchronized (this) {
-            for (int i = 0; i < degree.length; i++)
-                degree[i] = null;
-        }
+        degrees = null;
     }
 
     /**
@@ -882,6 +1173,9 @@ implements
      * Returns the scale range for the specified register number in this scale, or null if register number is out of range.
      * <p/>
      * This implementation only returns individual notes of the scale covering ranges with register numbers starting from 0 to one less than the scale size.
+     * <p/>
+     * The degree ranges of all notes are computed together, with their fundamentals, the first time a degree is requested for a root.
+     * The degree table is immutable and is published without locking; a table computed for a previous root is never returned.
      *
      * @param reg the scale register number.
      * @return the scale range, or null if range doesn't exist.
@@ -889,62 +1183,23 @@ implements
     @Override
     public Range apply(final Number reg) {
         final int r = reg.intValue();
-        if (r >= 0 && r < degree.length) {
-            if (degree[r] == null)
-                synchronized (degree) {
-                    if (degree[r] == null)
-                        degree[r] = new Range()
-                        {
-                            @Override
-                            public int compareTo(Range range) { return 0; }
-
-                            @Override
-                            public boolean contains(Number octave, Pitch pitch, musical.Note.Accidental accidental, Number... adjustment) {
-                                if (!(octave == null || getFundamental().getOctave() == octave))
-                                    return false;
-
-                                return contains(pitch, accidental, getAdjustment(getAdjustments()));
-                            }
-
-                            @Override
-                            public boolean contains(Pitch pitch, musical.Note.Accidental accidental, Number... adjustment) {
-                                return contains(pitch, accidental, getAdjustment(getAdjustments()));
-                            }
-
-                            @Override
-                            public boolean contains(musical.Note note, Number... adjustment) {
-                                return contains(note.getOctave(), note.getPitch(), note.getAccidental(), adjustment);
-                            }
-
-                            boolean contains(final Pitch pitch, final musical.Note.Accidental accidental, final short adjustment) {
-                                return getFundamental().getDistance(pitch, accidental, adjustment) == 0F;
-                            }
-
-                            short getAdjustment(
-                                final Number... adjustment
-                                ) {
-                                return adjustment.length == 0 ||
-                                       adjustment[0] == null
-                                       ? 0
-                                       : adjustment[0].shortValue();
-                            }
-
-                            @Override
-                            public musical.Note getFundamental() {
-                                return getNote(r);
-                            }
-
-                            @Override
-                            public boolean isLocal() {
-                                return true;
-                            }
-                        };
-                }
+        if (r < 0 || r > intervals.length)
+            return null;
 
-            return degree[r];
+        final musical.Note root = getRoot();
+        Degrees table = degrees;
+        if (table == null || table.root != root) {
+            final Range[] ranges = new Range[intervals.length + 1];
+            for (int i = 0; i < ranges.length; i++)
+                ranges[i] = new Degree(root == null
+                                       ? null
+                                       : getNote(i));
+
+            table = new Degrees(root, ranges);
+            degrees = table;
         }
 
-        return null;
+        return table.ranges[r];
     }
 
     /**
@@ -1252,6 +1507,135 @@ implements
         }
     }
 
+    /**
+     * {@code Degree} represents the range of a single scale note, with its fundamental computed once.
+     *
+     * @since 1.8
+     * @author Alireza Kamran
+     */
+    private final
+    class Degree
+    extends Range
+    {
+        /** The fundamental note, or null if the scale has a null root. */
+        private final
+        musical.Note fundamental;
+
+        /**
+         * Creates a degree with the specified fundamental note.
+         *
+         * @param fundamental the fundamental note.
+         */
+        Degree(
+            final musical.Note fundamental
+            ) {
+            this.fundamental = fundamental;
+        }
+
+        @Override
+        public int compareTo(Range range) { return 0; }
+
+        @Override
+        public boolean contains(Number octave, Pitch pitch, musical.Note.Accidental accidental, Number... adjustment) {
+            if (!(octave == null || fundamental != null && fundamental.octave != null && fundamental.octave == octave.byteValue()))
+                return false;
+
+            return contains(pitch, accidental, getAdjustment(getAdjustments()));
+        }
+
+        @Override
+        public boolean contains(Pitch pitch, musical.Note.Accidental accidental, Number... adjustment) {
+            return contains(pitch, accidental, getAdjustment(getAdjustments()));
+        }
+
+        @Override
+        public boolean contains(musical.Note note, Number... adjustment) {
+            return contains(note.getOctave(), note.getPitch(), note.getAccidental(), adjustment);
+        }
+
+        /**
+         * Returns true if the fundamental has no distance from the specified pitch, accidental, and adjustment; and false otherwise.
+         *
+         * @param pitch the pitch.
+         * @param accidental the accidental.
+         * @param adjustment the adjustment.
+         * @return true if the fundamental matches, and false otherwise.
+         */
+        private
+        boolean contains(
+            final Pitch pitch,
+            final musical.Note.Accidental accidental,
+            final short adjustment
+            ) {
+            return fundamental != null &&
+                   fundamental.getDistance(pitch, accidental, adjustment) == 0F;
+        }
+
+        /**
+         * Returns the first of the specified adjustments, or 0 if there is none.
+         *
+         * @param adjustment the adjustments.
+         * @return the adjustment.
+         */
+        private
+        short getAdjustment(
+            final Number... adjustment
+            ) {
+            return adjustment == null ||
+                   adjustment.length == 0 ||
+                   adjustment[0] == null
+                   ? 0
+                   : adjustment[0].shortValue();
+        }
+
+        /**
+         * Returns the fundamental note, or null if the scale has a null root.
+         * <p/>
+         * The same note is returned on every call.
+         */
+        @Override
+        public musical.Note getFundamental() {
+            return fundamental;
+        }
+
+        @Override
+        public boolean isLocal() {
+            return true;
+        }
+    }
+
+    /**
+     * {@code Degrees} is the immutable table of degree ranges computed for a scale root.
+     *
+     * @since 1.8
+     * @author Alireza Kamran
+     */
+    private static final
+    class Degrees
+    {
+        /** The root the degrees are computed for. */
+        final
+        musical.Note root;
+
+        /** The degree ranges. */
+        final
+        Range[] ranges;
+
+        /**
+         * Creates a degree table for the specified root.
+         *
+         * @param root the root.
+         * @param ranges the degree ranges.
+         */
+        Degrees(
+            final musical.Note root,
+            final Range[] ranges
+            ) {
+            this.root = root;
+            this.ranges = ranges;
+        }
+    }
+
     /**
      * {@code Fall} classifies all musical falls in scales.
      * <p/>
@@ -0,0 +1,368 @@
+package musical;
+
+import static system.data.Constant.OrderOutOfRange;
+
+import java.util.Arrays;
+
+/**
+ * {@code Tuning} maps note numbers to frequencies and back through precomputed tables.
+ * <p/>
+ * A tuning is defined by a reference note number and its frequency, a tonic pitch class, and the cents of the twelve pitch classes above the tonic within an octave.
+ * The frequency of every note number between {@link Note#MIN_VALUE} and {@link Note#MAX_VALUE} is computed once when the tuning is created.
+ * Fractional note numbers are interpolated between adjacent notes in cents, so that both directions of the mapping are table reads.
+ * <p/>
+ * Tunings are immutable and all methods in this class implementation are thread-safe.
+ *
+ * @since 1.8
+ * @author Alireza Kamran
+ */
+public
+class Tuning
+{
+    /** The frequency ratios of whole cents in an octave. */
+    private static final
+    double[] Ratios = new double[1201];
+
+    /** The cents of frequency ratios between one and two, in steps of 1/1024. */
+    private static final
+    double[] Logs = new double[1025];
+
+    static {
+        for (int c = 0; c < Ratios.length; c++)
+            Ratios[c] = Math.pow(2, c / 1200D);
+        for (int k = 0; k < Logs.length; k++)
+            Logs[k] = 1200 * Math.log1p(k / 1024D) / Math.log(2);
+    }
+
+    /** The note number written for frequencies that are not positive or are out of range. */
+    public static final
+    short Unpitched = Short.MIN_VALUE;
+
+    /** The standard tuning, equal temperament with A4 at 440 Hz. */
+    public static final
+    Tuning Standard = new Equal(440);
+
+    /** The frequencies of the notes, indexed by note number minus {@link Note#MIN_VALUE}. */
+    private final
+    double[] frequencies;
+
+    /** The cents from each note to the next, indexed by note number minus {@link Note#MIN_VALUE}. */
+    private final
+    double[] steps;
+
+    /**
+     * Creates a tuning with the specified reference frequency and note number, tonic pitch class, and cents of the pitch classes above the tonic.
+     *
+     * @param reference the reference frequency.
+     * @param number the reference note number.
+     * @param tonic the tonic pitch class.
+     * @param cents the cents of the twelve pitch classes above the tonic, starting with zero for the tonic.
+     *
+     * @throws NullPointerException if the cents array is null.
+     * @throws IllegalArgumentException if the reference frequency is not positive, the cents array does not have 12 strictly increasing elements starting with zero and less than 1200, or the tonic is not a pitch class.
+     */
+    public
+    Tuning(
+        final double reference,
+        final int number,
+        final int tonic,
+        final double... cents
+        ) {
+        if (!(reference > 0) || tonic < 0 || tonic > 11 || cents.length != 12 || cents[0] != 0 || cents[11] >= 1200)
+            throw new IllegalArgumentException();
+
+        for (int i = 1; i < cents.length; i++)
+            if (!(cents[i] > cents[i - 1]))
+                throw new IllegalArgumentException();
+
+        frequencies = new double[Note.MAX_VALUE - Note.MIN_VALUE + 1];
+        steps = new double[frequencies.length];
+        final double offset = cents(number, tonic, cents);
+        for (int i = 0; i < frequencies.length; i++) {
+            final double c = cents(Note.MIN_VALUE + i, tonic, cents);
+            frequencies[i] = reference * Math.pow(2, (c - offset) / 1200);
+            steps[i] = cents(Note.MIN_VALUE + i + 1, tonic, cents) - c;
+        }
+    }
+
+    /**
+     * Returns the cents of the specified note number from the tonic of octave zero.
+     *
+     * @param number the note number.
+     * @param tonic the tonic pitch class.
+     * @param cents the cents of the pitch classes above the tonic.
+     *
+     * @return the cents.
+     */
+    private static
+    double cents(
+        final int number,
+        final int tonic,
+        final double[] cents
+        ) {
+        return Math.floorDiv(number - tonic, 12) * 1200D + cents[Math.floorMod(number - tonic, 12)];
+    }
+
+    /**
+     * Returns the frequency ratio of the specified cents between zero and 1200, interpolating between whole cents.
+     *
+     * @param cents the cents.
+     *
+     * @return the frequency ratio.
+     */
+    private static
+    double ratio(
+        final double cents
+        ) {
+        final int c = (int) cents;
+        return c >= 1200
+               ? Ratios[1200]
+               : Ratios[c] + (cents - c) * (Ratios[c + 1] - Ratios[c]);
+    }
+
+    /**
+     * Returns the cents of the specified frequency ratio between one and two, interpolating between steps of 1/1024.
+     * <p/>
+     * The interpolation error is less than 0.001 cents.
+     *
+     * @param ratio the frequency ratio.
+     *
+     * @return the cents.
+     */
+    private static
+    double cents(
+        final double ratio
+        ) {
+        final double x = (ratio - 1) * 1024;
+        final int k = Math.min((int) x, 1023);
+        return Logs[k] + (x - k) * (Logs[k + 1] - Logs[k]);
+    }
+
+    /**
+     * Returns the frequency of the specified note number, which can be fractional.
+     *
+     * @param number the note number.
+     *
+     * @return the frequency.
+     *
+     * @throws IllegalArgumentException if the note number is out of range.
+     */
+    public
+    double frequency(
+        final double number
+        ) {
+        final double offset = number - Note.MIN_VALUE;
+        if (!(offset >= 0 && offset <= frequencies.length - 1))
+            throw new IllegalArgumentException(OrderOutOfRange);
+
+        final int i = (int) offset;
+        final double fraction = offset - i;
+        return fraction == 0
+               ? frequencies[i]
+               : frequencies[i] * ratio(fraction * steps[i]);
+    }
+
+    /**
+     * Returns the frequency of the specified note, including its adjustment.
+     *
+     * @param note the note.
+     *
+     * @return the frequency.
+     *
+     * @throws NullPointerException if the note is null.
+     * @throws IllegalStateException if the octave is null.
+     */
+    public
+    double frequency(
+        final Note note
+        ) {
+        if (note.octave == null)
+            throw new IllegalStateException();
+
+        return frequency(note.getNumber());
+    }
+
+    /**
+     * Returns the note number, which can be fractional, of the specified frequency; or NaN if the frequency is not positive or is out of range.
+     *
+     * @param frequency the frequency.
+     *
+     * @return the note number.
+     */
+    public
+    double number(
+        final double frequency
+        ) {
+        int i = Arrays.binarySearch(frequencies, frequency);
+        if (i >= 0)
+            return Note.MIN_VALUE + i;
+
+        i = -i - 2;
+        if (!(frequency > 0) || i < 0 || i == frequencies.length - 1)
+            return Double.NaN;
+
+        return Note.MIN_VALUE + i + cents(frequency / frequencies[i]) / steps[i];
+    }
+
+    /**
+     * Writes the nearest note number and the deviation from it in cents, for each of the specified frequencies in the range, to the output arrays at the same indices.
+     * <p/>
+     * Frequencies that are not positive or are out of range are written as {@link #Unpitched} with zero cents.
+     * Each frequency is first checked against the note of the previous one, so that slowly changing streams are quantized without searching the table.
+     *
+     * @param frequencies the frequencies.
+     * @param from the first index, inclusive.
+     * @param to the last index, exclusive.
+     * @param numbers the note numbers output array.
+     * @param cents the cents output array.
+     *
+     * @throws NullPointerException if any of the arrays is null.
+     * @throws ArrayIndexOutOfBoundsException if the range is out of the bounds of any of the arrays.
+     */
+    public
+    void quantize(
+        final float[] frequencies,
+        final int from,
+        final int to,
+        final short[] numbers,
+        final short[] cents
+        ) {
+        int i = -1;
+        for (int k = from; k < to; k++) {
+            final double frequency = frequencies[k];
+            if (!(frequency > 0) || frequency < this.frequencies[0] || frequency >= this.frequencies[this.frequencies.length - 1]) {
+                numbers[k] = Unpitched;
+                cents[k] = 0;
+                continue;
+            }
+
+            if (i < 0 || frequency < this.frequencies[i] || frequency >= this.frequencies[i + 1]) {
+                i = Arrays.binarySearch(this.frequencies, frequency);
+                if (i < 0)
+                    i = -i - 2;
+            }
+
+            final double c = cents(frequency / this.frequencies[i]);
+            if (c * 2 < steps[i]) {
+                numbers[k] = (short) (Note.MIN_VALUE + i);
+                cents[k] = (short) Math.round(c);
+            }
+            else {
+                numbers[k] = (short) (Note.MIN_VALUE + i + 1);
+                cents[k] = (short) Math.round(c - steps[i]);
+            }
+        }
+    }
+
+    /**
+     * Merges consecutive equal note numbers in the range into segments, writes the start index and length of each segment to the output arrays, and returns the number of segments.
+     * <p/>
+     * Unpitched frames are merged the same way as notes.
+     *
+     * @param numbers the note numbers.
+     * @param from the first index, inclusive.
+     * @param to the last index, exclusive.
+     * @param starts the segment start indices output array.
+     * @param lengths the segment lengths output array.
+     *
+     * @return the number of segments.
+     *
+     * @throws NullPointerException if any of the arrays is null.
+     * @throws ArrayIndexOutOfBoundsException if the range is out of the bounds of the note numbers, or the output arrays are shorter than the number of segments.
+     */
+    public static
+    int segment(
+        final short[] numbers,
+        final int from,
+        final int to,
+        final int[] starts,
+        final int[] lengths
+        ) {
+        int count = 0;
+        for (int k = from; k < to; k++)
+            if (k == from || numbers[k] != numbers[k - 1]) {
+                if (count > 0)
+                    lengths[count - 1] = k - starts[count - 1];
+
+                starts[count++] = k;
+            }
+
+        if (count > 0)
+            lengths[count - 1] = to - starts[count - 1];
+
+        return count;
+    }
+
+    /**
+     * {@code Equal} represents twelve-tone equal temperament, with A4 as the reference note.
+     *
+     * @since 1.8
+     * @author Alireza Kamran
+     */
+    public static
+    class Equal
+    extends Tuning
+    {
+        /**
+         * Creates an equal temperament tuning with the specified frequency of A4.
+         *
+         * @param reference the frequency of A4.
+         *
+         * @throws IllegalArgumentException if the reference frequency is not positive.
+         */
+        public
+        Equal(
+            final double reference
+            ) {
+            super(reference, 69, 0, 0, 100, 200, 300, 400, 500, 600, 700, 800, 900, 1000, 1100);
+        }
+    }
+
+    /**
+     * {@code Just} represents five-limit just intonation built on a tonic, with A4 as the reference note.
+     * <p/>
+     * The pitch classes above the tonic have the ratios 1, 16/15, 9/8, 6/5, 5/4, 4/3, 45/32, 3/2, 8/5, 5/3, 9/5, and 15/8.
+     *
+     * @since 1.8
+     * @author Alireza Kamran
+     */
+    public static
+    class Just
+    extends Tuning
+    {
+        /** The pitch class ratios above the tonic. */
+        private static final
+        double[] Intervals = { 1, 16 / 15D, 9 / 8D, 6 / 5D, 5 / 4D, 4 / 3D, 45 / 32D, 3 / 2D, 8 / 5D, 5 / 3D, 9 / 5D, 15 / 8D };
+
+        /**
+         * Creates a just intonation tuning with the specified frequency of A4 and tonic pitch.
+         *
+         * @param reference the frequency of A4.
+         * @param tonic the tonic pitch.
+         *
+         * @throws NullPointerException if the tonic is null.
+         * @throws IllegalArgumentException if the reference frequency is not positive.
+         */
+        public
+        Just(
+            final double reference,
+            final Note.Pitch tonic
+            ) {
+            super(reference, 69, tonic.order, cents());
+        }
+
+        /**
+         * Returns the cents of the pitch class ratios.
+         *
+         * @return the cents.
+         */
+        private static
+        double[] cents() {
+            final double[] cents = new double[Intervals.length];
+            for (int i = 0; i < cents.length; i++)
+                cents[i] = 1200 * Math.log(Intervals[i]) / Math.log(2);
+
+            return cents;
+        }
+    }
+}
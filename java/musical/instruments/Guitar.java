@@ -5,6 +5,7 @@ import java.util.Arrays;
 import java.util.List;
 
 import musical.Note;
+import musical.Tuning;
 import system.Type;
 import system.data.Lambda;
 
@@ -524,7 +525,7 @@ extends Lute
 
             @Override
             public Float getFrequency() {
-                return (float) (Math.pow(2D, (String.this.tuning.getNumber() + number - 69) / 12) * 440);
+                return (float) Tuning.Standard.frequency(String.this.tuning.getNumber() + number);
             }
         }
 
@@ -590,7 +591,7 @@ extends Lute
 
             @Override
             protected Float getFrequency() {
-                return (float) (Math.pow(2D, ((rootFret.getTune().getNumber() + getIntervalCents() / 100) - 69) / 12) * 440);
+                return (float) Tuning.Standard.frequency(rootFret.getTune().getNumber() + getIntervalCents() / 100D);
             }
 
             /**
@@ -1,5 +1,10 @@
 package system.data;
 
+import static system.data.Constant.DuplicateKey;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 import java.util.function.Supplier;
 
 /**
@@ -112,4 +117,323 @@ interface Cache
             return find(key, 0, root, false) != null;
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * {@code Keywords} is an immutable set of string keys that is indexed with a minimal perfect hash.
+     * <p/>
+     * The hash function is generated when the set is created, by hashing the keys into buckets and searching a displacement seed for each bucket, largest buckets first, until all keys in the bucket land on free slots.
+     * Keys are stored in exactly as many slots as there are keys, and a membership test costs one bucket hash, one slot hash and one equality check.
+     * <p/>
+     * Keys can be tested as strings, as any char sequence, or as a range of a char array, such as the buffers passed by SAX parsers, without creating a string.
+     *
+     * @since 1.8
+     * @author Alireza Kamran
+     */
+    public static final
+    class Keywords
+    {
+        /** The keys in their hash slots. */
+        private final
+        String[] keys;
+
+        /** The displacement seeds per bucket; negative seeds encode the slot of single-key buckets directly. */
+        private final
+        int[] seeds;
+
+        /**
+         * Creates a keyword set with the specified keys.
+         *
+         * @param keys the keys.
+         * @throws IllegalArgumentException if the keys contain duplicates.
+         */
+        public
+        Keywords(
+            final String... keys
+            ) {
+            final int n = keys.length;
+            this.keys = new String[n];
+            seeds = new int[Math.max(1, (n + 1) / 2)];
+            if (n == 0)
+                return;
+
+            final List<List<String>> buckets = new ArrayList<>(seeds.length);
+            for (int b = 0; b < seeds.length; b++)
+                buckets.add(new ArrayList<>());
+            for (final String key : keys)
+                buckets.get(index(hash(key, 0, key.length(), 0), seeds.length)).add(key);
+
+            final Integer[] order = new Integer[seeds.length];
+            for (int b = 0; b < order.length; b++)
+                order[b] = b;
+            Arrays.sort(order, (b1, b2) -> buckets.get(b2).size() - buckets.get(b1).size());
+
+            final int[] slots = new int[n];
+            int free = 0;
+            for (final int b : order) {
+                final List<String> bucket = buckets.get(b);
+                if (bucket.size() > 1)
+                    seeds[b] = displace(bucket, slots);
+                else if (bucket.size() == 1) {
+                    while (this.keys[free] != null)
+                        free++;
+                    this.keys[free] = bucket.get(0);
+                    seeds[b] = -free - 1;
+                }
+            }
+        }
+
+        /**
+         * Searches for and returns a displacement seed that places all keys of the bucket in free and distinct slots, and stores the keys in those slots.
+         *
+         * @param bucket the bucket keys.
+         * @param slots the slot buffer.
+         * @return the displacement seed.
+         * @throws IllegalArgumentException if the bucket contains duplicate keys.
+         */
+        private
+        int displace(
+            final List<String> bucket,
+            final int[] slots
+            ) {
+            for (int i = 1; i < bucket.size(); i++)
+                if (bucket.lastIndexOf(bucket.get(i - 1)) != i - 1)
+                    throw new IllegalArgumentException(DuplicateKey);
+
+            for (int seed = 1;; seed++) {
+                int i = 0;
+                search:
+                for (; i < bucket.size(); i++) {
+                    final String key = bucket.get(i);
+                    final int slot = index(hash(key, 0, key.length(), seed), keys.length);
+                    if (keys[slot] != null)
+                        break;
+
+                    for (int j = 0; j < i; j++)
+                        if (slots[j] == slot)
+                            break search;
+
+                    slots[i] = slot;
+                }
+
+                if (i == bucket.size()) {
+                    for (i = 0; i < bucket.size(); i++)
+                        keys[slots[i]] = bucket.get(i);
+                    return seed;
+                }
+            }
+        }
+
+        /**
+         * Returns true if the set contains the specified key, and false otherwise.
+         *
+         * @param key the key.
+         * @return true if the key is in the set, and false if it is not or is null.
+         */
+        public
+        boolean contains(
+            final CharSequence key
+            ) {
+            return indexOf(key) >= 0;
+        }
+
+        /**
+         * Returns true if the set contains the key in the specified range of the char array, and false otherwise.
+         *
+         * @param chars the char array.
+         * @param start the start index.
+         * @param length the key length.
+         * @return true if the key is in the set, and false otherwise.
+         */
+        public
+        boolean contains(
+            final char[] chars,
+            final int start,
+            final int length
+            ) {
+            return indexOf(chars, start, length) >= 0;
+        }
+
+        /**
+         * Returns the hash slot of the specified key, or -1 if the set does not contain the key.
+         * <p/>
+         * Slots are distinct integers between zero and the set size, and can be used to index arrays of values associated with the keys.
+         *
+         * @param key the key.
+         * @return the key slot, or -1 if the key is not in the set or is null.
+         */
+        public
+        int indexOf(
+            final CharSequence key
+            ) {
+            if (key == null)
+                return -1;
+
+            final int slot = slot(hash(key, 0, key.length(), 0), key, 0, key.length());
+            if (slot < 0)
+                return -1;
+
+            final String found = keys[slot];
+            if (found.length() != key.length())
+                return -1;
+
+            for (int i = 0; i < found.length(); i++)
+                if (found.charAt(i) != key.charAt(i))
+                    return -1;
+
+            return slot;
+        }
+
+        /**
+         * Returns the hash slot of the key in the specified range of the char array, or -1 if the set does not contain the key.
+         *
+         * @param chars the char array.
+         * @param start the start index.
+         * @param length the key length.
+         * @return the key slot, or -1.
+         */
+        public
+        int indexOf(
+            final char[] chars,
+            final int start,
+            final int length
+            ) {
+            final int slot = slot(hash(chars, start, start + length, 0), chars, start, start + length);
+            if (slot < 0)
+                return -1;
+
+            final String found = keys[slot];
+            if (found.length() != length)
+                return -1;
+
+            for (int i = 0; i < length; i++)
+                if (found.charAt(i) != chars[start + i])
+                    return -1;
+
+            return slot;
+        }
+
+        /**
+         * Returns true if the set is empty, and false otherwise.
+         *
+         * @return true if the set is empty, and false otherwise.
+         */
+        public
+        boolean isEmpty() {
+            return keys.length == 0;
+        }
+
+        /**
+         * Returns the number of keys in the set.
+         *
+         * @return the number of keys.
+         */
+        public
+        int size() {
+            return keys.length;
+        }
+
+        /**
+         * Returns the slot that the specified key hashes to, or -1 if the set is empty.
+         *
+         * @param hash the key hash with seed zero.
+         * @param key the key, either a char sequence or a char array.
+         * @param start the key start index.
+         * @param end the key end index.
+         * @return the slot, or -1.
+         */
+        private
+        int slot(
+            final int hash,
+            final Object key,
+            final int start,
+            final int end
+            ) {
+            if (keys.length == 0)
+                return -1;
+
+            final int seed = seeds[index(hash, seeds.length)];
+            if (seed < 0)
+                return -seed - 1;
+
+            return index(key instanceof char[]
+                         ? hash((char[]) key, start, end, seed)
+                         : hash((CharSequence) key, start, end, seed), keys.length);
+        }
+
+        /**
+         * Returns the seeded hash of the characters in the specified range of the char sequence.
+         *
+         * @param key the char sequence.
+         * @param start the start index.
+         * @param end the end index.
+         * @param seed the seed.
+         * @return the hash.
+         */
+        private static
+        int hash(
+            final CharSequence key,
+            final int start,
+            final int end,
+            final int seed
+            ) {
+            int h = 0x811C9DC5 ^ seed * 0x9E3779B9;
+            for (int i = start; i < end; i++)
+                h = (h ^ key.charAt(i)) * 0x01000193;
+            return mix(h);
+        }
+
+        /**
+         * Returns the seeded hash of the characters in the specified range of the char array.
+         *
+         * @param key the char array.
+         * @param start the start index.
+         * @param end the end index.
+         * @param seed the seed.
+         * @return the hash.
+         */
+        private static
+        int hash(
+            final char[] key,
+            final int start,
+            final int end,
+            final int seed
+            ) {
+            int h = 0x811C9DC5 ^ seed * 0x9E3779B9;
+            for (int i = start; i < end; i++)
+                h = (h ^ key[i]) * 0x01000193;
+            return mix(h);
+        }
+
+        /**
+         * Returns the final avalanche mix of the hash.
+         *
+         * @param h the hash.
+         * @return the mixed hash.
+         */
+        private static
+        int mix(
+            int h
+            ) {
+            h ^= h >>> 16;
+            h *= 0x85EBCA6B;
+            h ^= h >>> 13;
+            h *= 0xC2B2AE35;
+            return h ^ h >>> 16;
+        }
+
+        /**
+         * Returns the non-negative index of the hash in a table with the specified length.
+         *
+         * @param h the hash.
+         * @param length the table length.
+         * @return the index.
+         */
+        private static
+        int index(
+            final int h,
+            final int length
+            ) {
+            return (h & 0x7FFFFFFF) % length;
+        }
+    }
+}
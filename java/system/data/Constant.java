@@ -13,7 +13,10 @@ class Constant
     public static final String AdjustmentTypeMismatch = "Unable to perform adjustment with parameter type";
     public static final String BaseImplementationRestricted = "The base implementation cannot be called in any context";
     //public static final String DefaultValueNotAvailable = "Default value is not available";
+    public static final String DictionaryFrozen = "Dictionary is frozen";
+    public static final String DuplicateKey = "Duplicate key";
     public static final String DivisionByZero = "Division by zero";
+    public static final String FractionOverflow = "Fraction is out of range";
     public static final String StandardObjectInoperable = "Standard object is inoperable";
     public static final String NegativeDuration = "Duration cannot be negative";
     public static final String NullAdjustment = "Adjustment cannot be null";
@@ -1,11 +1,23 @@
 package system.data;
 
+import static system.data.Constant.DictionaryFrozen;
+
 import java.util.ArrayList;
-import java.util.Iterator;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
 
 /**
  * {@code Dictionary} is an n-tree dictionary for one-to-one mapping of string keys to value objects.
+ * <p/>
+ * The next letters of each node are kept in a character array sorted in ascending order and are looked up by binary search.
+ * Keys are added and found iteratively, one node per character.
+ * <p/>
+ * All methods in this class implementation are thread-safe.
+ * The next letters of each node are replaced as a whole, copy-on-write, every time a letter is added; so lookups never lock and always see a consistent set of next letters.
+ * Adding letters to a node is done by compare-and-set, so concurrent writers only retry when they add to the same node at the same time.
+ * <p/>
+ * Once bulk loading is finished, the dictionary can be frozen by calling {@link #freeze()}.
+ * Freezing lays out all nodes in breadth-first order into flat arrays that are shared by all lookups, and makes the dictionary immutable.
  *
  * @param <T> the type of value objects.
  *
@@ -17,12 +29,16 @@ class Dictionary<T>
 {
     /** The root node character. */
     private static final
-    Character HEAD = null;
+    char HEAD = '\0';
 
     /** The root node of the n-tree. */
     protected final
     Letter<T> root;
 
+    /** The frozen form of the n-tree, or null if the dictionary is not frozen. */
+    private volatile
+    Frozen<T> frozen;
+
     /**
      * Creates an empty dictionary map.
      */
@@ -38,6 +54,8 @@ class Dictionary<T>
      * @param index the index of character in key that is currently being added.
      * @param prevLetter the previous letter node added to the map.
      * @param value the value.
+     *
+     * @throws UnsupportedOperationException if the dictionary is frozen.
      */
     protected
     void add(
@@ -46,30 +64,25 @@ class Dictionary<T>
         final Letter<T> prevLetter,
         final T value
         ) {
-        if (index < key.length()) {
-            final char ch = key.charAt(index);
-            Letter<T> letter;
-            synchronized (prevLetter.nextLetters) {
-                letter = next(ch, prevLetter.nextLetters, false);
-                if (letter == null) {
-                    letter = new Letter<>(ch);
-                    prevLetter.nextLetters.add(letter);
-                }
-            }
+        if (frozen != null)
+            throw new UnsupportedOperationException(DictionaryFrozen);
 
-            add(key, index + 1, letter, value);
-        }
-        else
-            prevLetter.value = value;
+        Letter<T> letter = prevLetter;
+        for (int i = index; i < key.length(); i++)
+            letter = letter.nextOrAdd(key.charAt(i));
+
+        letter.value = value;
     }
 
     /**
      * Adds the key and value to the dictionary.
      * <p/>
-     * This method is thread-safe.
+     * This method is thread-safe and does not lock.
      *
      * @param key the key.
      * @param value the value.
+     *
+     * @throws UnsupportedOperationException if the dictionary is frozen.
      */
     public
     void add(
@@ -81,6 +94,8 @@ class Dictionary<T>
 
     /**
      * Called by {@link #find(String)} to retrieve a value from the dictionary.
+     * <p/>
+     * If the dictionary is frozen and the previous letter is the root node, the frozen form is searched instead.
      *
      * @param key the key.
      * @param index the index of character in key that is currently being retrieved.
@@ -98,15 +113,18 @@ class Dictionary<T>
         if (key == null)
             return null;
 
-        if (index < key.length()) {
-            final Letter<T> letter = next(key.charAt(index), prevLetter.nextLetters, ignoreCase);
+        final Frozen<T> frozen = this.frozen;
+        if (frozen != null && prevLetter == root)
+            return frozen.find(key, index, ignoreCase);
+
+        Letter<T> letter = prevLetter;
+        for (int i = index; i < key.length(); i++) {
+            letter = letter.next(key.charAt(i), ignoreCase);
             if (letter == null)
                 return null;
-
-            return find(key, index + 1, letter, ignoreCase);
         }
 
-        return prevLetter.value;
+        return letter.value;
     }
 
     /**
@@ -137,6 +155,26 @@ class Dictionary<T>
         return find(key, 0, root, false);
     }
 
+    /**
+     * Freezes the dictionary into its immutable form and returns this dictionary.
+     * <p/>
+     * All nodes are laid out in breadth-first order into flat arrays that are used by all lookups from then on.
+     * Subsequent calls to this method have no effect, and adding keys to a frozen dictionary will throw an {@code UnsupportedOperationException}.
+     * Keys that are added while the dictionary is being frozen may not be included.
+     *
+     * @return the frozen dictionary.
+     */
+    public
+    Dictionary<T> freeze() {
+        if (frozen == null)
+            synchronized (root) {
+                if (frozen == null)
+                    frozen = new Frozen<>(root);
+            }
+
+        return this;
+    }
+
     /**
      * Returns true if the dictionary is empty.
      *
@@ -144,7 +182,20 @@ class Dictionary<T>
      */
     public
     boolean isEmpty() {
-        return root.nextLetters.isEmpty();
+        final Frozen<T> frozen = this.frozen;
+        return frozen == null
+               ? root.edges.chars.length == 0
+               : frozen.chars.length == 0;
+    }
+
+    /**
+     * Returns true if the dictionary is frozen.
+     *
+     * @return true if the dictionary is frozen.
+     */
+    public
+    boolean isFrozen() {
+        return frozen != null;
     }
 
     /**
@@ -167,81 +218,284 @@ class Dictionary<T>
     }
 
     /**
-     * Called by {@link #find(String)} and {@link #add(String, Object)} to find the next letter node with the specified character.
+     * Returns the index of the specified character in the sorted range of characters, or a negative value if not found.
+     * <p/>
+     * If the character is not found, the returned value is equal to {@code -(insertion point) - 1}.
      *
+     * @param chars the sorted characters.
+     * @param start the range start index. (inclusive)
+     * @param end the range end index. (exclusive)
      * @param ch the character.
-     * @param list the list of next letters in the n-tree.
-     * @param start the index of the starting letter in the n-tree.
-     * @param length the number of next letters in the list to lookup.
-     * @param ignoreCase the flag indicating if search should ignore the character case.
      *
-     * @return the next letter node, or null if not found.
+     * @return the index of the character, or a negative value if not found.
      */
-    private
-    Letter<T> next(
-        final char ch,
-        final List<Letter<T>> list,
-        final int start,
-        int length,
-        final boolean ignoreCase
+    static
+    int search(
+        final char[] chars,
+        int start,
+        int end,
+        final char ch
         ) {
-        Iterator<Letter<T>> it = list.listIterator(start);
-        Letter<T> letter;
-        if (ignoreCase)
-            while (length-- > 0 && it.hasNext()) {
-                letter = it.next();
-                if (Character.toLowerCase(letter.ch) == Character.toLowerCase(ch))
-                    return letter;
-            }
-        else
-            while (length-- > 0 && it.hasNext()) {
-                letter = it.next();
-                if (letter.ch == ch)
-                    return letter;
-            }
+        end--;
+        while (start <= end) {
+            final int mid = (start + end) >>> 1;
+            final char c = chars[mid];
+            if (c < ch)
+                start = mid + 1;
+            else
+                if (c > ch)
+                    end = mid - 1;
+                else
+                    return mid;
+        }
 
-        return null;
+        return -(start + 1);
     }
 
     /**
-     * Called by {@link #find(String)} and {@link #add(String, Object)} to find the next letter node with the specified character.
+     * Returns the index of the specified character in the sorted range of characters, optionally ignoring the character case, or a negative value if not found.
+     * <p/>
+     * When ignoring case, the exact character is searched first and then its lower case and upper case forms.
      *
+     * @param chars the sorted characters.
+     * @param start the range start index. (inclusive)
+     * @param end the range end index. (exclusive)
      * @param ch the character.
-     * @param list the list of next letters in the n-tree.
      * @param ignoreCase the flag indicating if search should ignore the character case.
-     * @return the next letter node or null if not found.
+     *
+     * @return the index of the character, or a negative value if not found.
      */
-    private
-    Letter<T> next(
+    static
+    int search(
+        final char[] chars,
+        final int start,
+        final int end,
         final char ch,
-        final List<Letter<T>> list,
         final boolean ignoreCase
         ) {
-        return next(ch, list, 0, list.size(), ignoreCase);
+        int i = search(chars, start, end, ch);
+        if (i >= 0 || !ignoreCase)
+            return i;
+
+        final char lower = Character.toLowerCase(ch);
+        if (lower != ch && (i = search(chars, start, end, lower)) >= 0)
+            return i;
+
+        final char upper = Character.toUpperCase(ch);
+        return upper != ch
+               ? search(chars, start, end, upper)
+               : i;
+    }
+
+    /**
+     * {@code Frozen} is the immutable form of the n-tree dictionary.
+     * <p/>
+     * Nodes are numbered in breadth-first order, with the root node numbered zero.
+     * The next letters of node {@code n} are stored in the range [{@code offsets[n]}, {@code offsets[n + 1]}) of the characters array in ascending order, and the node reached through the letter at index {@code e} is numbered {@code e + 1}.
+     *
+     * @param <S> The type of the value objects.
+     *
+     * @since 1.8
+     * @author Alireza Kamran
+     */
+    private static final
+    class Frozen<S>
+    {
+        /** The first letter index of each node, followed by the number of letters. */
+        final
+        int[] offsets;
+
+        /** The letter characters. */
+        final
+        char[] chars;
+
+        /** The node values. */
+        final
+        Object[] values;
+
+        /**
+         * Creates the frozen form of the n-tree starting at the specified root node.
+         *
+         * @param root the root node.
+         */
+        Frozen(
+            final Letter<S> root
+            ) {
+            final List<Letter<S>> nodes = new ArrayList<>();
+            nodes.add(root);
+            final List<Edges<S>> edges = new ArrayList<>();
+            for (int n = 0; n < nodes.size(); n++) {
+                final Edges<S> next = nodes.get(n).edges;
+                edges.add(next);
+                for (final Letter<S> letter : next.letters)
+                    nodes.add(letter);
+            }
+
+            final int count = nodes.size();
+            offsets = new int[count + 1];
+            chars = new char[count - 1];
+            values = new Object[count];
+
+            int e = 0;
+            for (int n = 0; n < count; n++) {
+                final char[] next = edges.get(n).chars;
+                offsets[n] = e;
+                values[n] = nodes.get(n).value;
+                System.arraycopy(next, 0, chars, e, next.length);
+                e += next.length;
+            }
+
+            offsets[count] = e;
+        }
+
+        /**
+         * Returns the value for the specified key starting at the specified index, or null if the key doesn't exist.
+         *
+         * @param key the key.
+         * @param index the index of the first character in key.
+         * @param ignoreCase flag that indicates whether search should ignore character case.
+         *
+         * @return the value for the key, or null if it doesn't exist.
+         */
+        @SuppressWarnings("unchecked")
+        S find(
+            final String key,
+            final int index,
+            final boolean ignoreCase
+            ) {
+            int node = 0;
+            for (int i = index; i < key.length(); i++) {
+                final int e = search(chars, offsets[node], offsets[node + 1], key.charAt(i), ignoreCase);
+                if (e < 0)
+                    return null;
+
+                node = e + 1;
+            }
+
+            return (S) values[node];
+        }
+    }
+
+    /**
+     * {@code Edges} is an immutable set of next letters of a letter node.
+     *
+     * @param <S> The type of the value objects.
+     *
+     * @since 1.8
+     * @author Alireza Kamran
+     */
+    private static final
+    class Edges<S>
+    {
+        /** The empty edges. */
+        private static final
+        Edges<Object> None = new Edges<>(new char[0], letters(0));
+
+        /** The sorted next letter characters. */
+        final
+        char[] chars;
+
+        /** The next letter nodes, in the same order as the characters. */
+        final
+        Letter<S>[] letters;
+
+        /**
+         * Creates the edges with the specified sorted characters and letter nodes.
+         *
+         * @param chars the sorted characters.
+         * @param letters the letter nodes.
+         */
+        Edges(
+            final char[] chars,
+            final Letter<S>[] letters
+            ) {
+            this.chars = chars;
+            this.letters = letters;
+        }
+
+        /**
+         * Returns the empty edges.
+         *
+         * @param <S> The type of the value objects.
+         *
+         * @return the empty edges.
+         */
+        @SuppressWarnings("unchecked")
+        static <S>
+        Edges<S> none() {
+            return (Edges<S>) (Edges<?>) None;
+        }
+
+        /**
+         * Creates and returns an array of letter nodes with the specified size.
+         *
+         * @param <S> The type of the value objects.
+         * @param size the size.
+         *
+         * @return the array.
+         */
+        @SuppressWarnings("unchecked")
+        private static <S>
+        Letter<S>[] letters(
+            final int size
+            ) {
+            return (Letter<S>[]) new Letter<?>[size];
+        }
+
+        /**
+         * Creates and returns a copy of these edges with the specified letter node inserted at the specified index.
+         *
+         * @param i the insertion index.
+         * @param letter the letter node.
+         *
+         * @return the new edges.
+         */
+        Edges<S> with(
+            final int i,
+            final Letter<S> letter
+            ) {
+            final int size = chars.length;
+            final char[] newChars = new char[size + 1];
+            final Letter<S>[] newLetters = letters(size + 1);
+            System.arraycopy(chars, 0, newChars, 0, i);
+            System.arraycopy(letters, 0, newLetters, 0, i);
+            newChars[i] = letter.ch;
+            newLetters[i] = letter;
+            System.arraycopy(chars, i, newChars, i + 1, size - i);
+            System.arraycopy(letters, i, newLetters, i + 1, size - i);
+            return new Edges<>(newChars, newLetters);
+        }
     }
 
     /**
      * {@code Letter} is a representation of a single node in the n-tree dictionary.
+     * <p/>
+     * The next letters are held in an immutable {@link Edges} instance that is replaced by compare-and-set whenever a letter is added.
      *
      * @param <S> The type of the value objects.
      *
      * @since 1.8
      * @author Alireza Kamran
      */
-    private final
+    private static final
     class Letter<S>
     {
+        /** The next letters updater. */
+        @SuppressWarnings("rawtypes")
+        private static final
+        AtomicReferenceFieldUpdater<Letter, Edges> EdgesUpdater = AtomicReferenceFieldUpdater.newUpdater(Letter.class, Edges.class, "edges");
+
         /** The node character. */
         public final
         char ch;
 
         /** The node value. */
-        public
+        public volatile
         S value;
 
-        /** List of next letter nodes. */
-        public final
-        List<Letter<S>> nextLetters;
+        /** The next letters. */
+        volatile
+        Edges<S> edges;
 
         /**
          * Creates a letter node with the specified character.
@@ -253,7 +507,53 @@ class Dictionary<T>
             final char ch
             ) {
             this.ch = ch;
-            nextLetters = new ArrayList<>(1);
+            edges = Edges.none();
+        }
+
+        /**
+         * Returns the next letter node with the specified character, or null if not found.
+         *
+         * @param ch the character.
+         * @param ignoreCase the flag indicating if search should ignore the character case.
+         *
+         * @return the next letter node, or null if not found.
+         */
+        Letter<S> next(
+            final char ch,
+            final boolean ignoreCase
+            ) {
+            final Edges<S> edges = this.edges;
+            final int i = search(edges.chars, 0, edges.chars.length, ch, ignoreCase);
+            return i < 0
+                   ? null
+                   : edges.letters[i];
+        }
+
+        /**
+         * Returns the next letter node with the specified character, adding it in sorted position if not found.
+         * <p/>
+         * If another letter is added to this node concurrently, the search is retried against the new next letters.
+         *
+         * @param ch the character.
+         *
+         * @return the next letter node.
+         */
+        Letter<S> nextOrAdd(
+            final char ch
+            ) {
+            Letter<S> letter = null;
+            for (;;) {
+                final Edges<S> edges = this.edges;
+                final int i = search(edges.chars, 0, edges.chars.length, ch);
+                if (i >= 0)
+                    return edges.letters[i];
+
+                if (letter == null)
+                    letter = new Letter<>(ch);
+
+                if (EdgesUpdater.compareAndSet(this, edges, edges.with(-i - 1, letter)))
+                    return letter;
+            }
         }
     }
 
@@ -279,4 +579,4 @@ class Dictionary<T>
             S value
             );
     }
-}
\ No newline at end of file
+}
@@ -1,14 +1,495 @@
 package system.data;
 
+import static java.nio.file.StandardWatchEventKinds.ENTRY_CREATE;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_DELETE;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_MODIFY;
+import static java.nio.file.StandardWatchEventKinds.OVERFLOW;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.LongAdder;
+
 /**
  * {@code FileSystem} represents the interface for the external file system in the process.
  * <p/>
- * This class implementation is in progress.
+ * File contents are served as read-only views of memory-mapped buffers, so files that are read again are neither reopened nor copied.
+ * The table of open mappings is bounded and the least recently used mappings are released first.
+ * <p/>
+ * The directories of mapped files are watched, and mappings are invalidated as soon as their files are changed or deleted.
+ * When consecutive files of the same directory are retrieved, the following files of the directory are mapped and loaded ahead in the background.
+ * Prefetching is best effort; failures are not thrown, but are counted by {@link #getPrefetchFailures()}.
+ * <p/>
+ * The watch service and its daemon thread are started when the first file is mapped, and run until {@link #close()} is called.
+ * File systems that map files must therefore be closed, for example in a try-with-resources statement; otherwise the watch service and the thread are not released.
+ * <p/>
+ * Addresses are the parts of a file path, joined in order.
+ * <p/>
+ * All methods in this class implementation are thread-safe.
  *
  * @since 1.8
  * @author Alireza Kamran
  */
-public abstract
+public
 class FileSystem
-implements Cache
-{}
\ No newline at end of file
+implements
+    AutoCloseable,
+    Cache
+{
+    /** The default maximum number of open mappings. */
+    public static final
+    int DefaultMappings = 256;
+
+    /** The default number of files prefetched during directory scans. */
+    public static final
+    int DefaultPrefetch = 4;
+
+    /** The maximum number of open mappings. */
+    protected final
+    int maxMappings;
+
+    /** The number of files prefetched during directory scans. */
+    protected final
+    int prefetch;
+
+    /** The open mappings, in access order. */
+    private final
+    LinkedHashMap<Path, Mapping> mappings = new LinkedHashMap<>(16, 0.75f, true);
+
+    /** The watched directories. */
+    private final
+    Map<Path, WatchKey> directories = new HashMap<>();
+
+    /** The sorted directory listings used for prefetching. */
+    private final
+    Map<Path, List<Path>> listings = new HashMap<>();
+
+    /** The last retrieved file. */
+    private
+    Path last;
+
+    /** The watch service, or null if no file is mapped yet or the file system is closed. */
+    private
+    WatchService watcher;
+
+    /** The flag indicating if the file system is closed. */
+    private
+    boolean closed;
+
+    /** The failed prefetches. */
+    private final
+    LongAdder prefetchFailures = new LongAdder();
+
+    /**
+     * Creates a file system cache with the default number of mappings and prefetched files.
+     */
+    public
+    FileSystem() {
+        this(DefaultMappings, DefaultPrefetch);
+    }
+
+    /**
+     * Creates a file system cache with the specified maximum number of mappings and prefetched files.
+     *
+     * @param maxMappings the maximum number of open mappings.
+     * @param prefetch the number of prefetched files, or zero for no prefetching.
+     * @throws IllegalArgumentException if the maximum number of mappings is not positive or the number of prefetched files is negative.
+     */
+    public
+    FileSystem(
+        final int maxMappings,
+        final int prefetch
+        ) {
+        if (maxMappings < 1 || prefetch < 0)
+            throw new IllegalArgumentException();
+
+        this.maxMappings = maxMappings;
+        this.prefetch = prefetch;
+    }
+
+    /**
+     * Maps the file at the specified address, replacing any existing mapping of the file.
+     * If the address is a directory, all regular files in the directory are mapped.
+     *
+     * @param address the path parts.
+     * @throws UncheckedIOException if the file cannot be mapped.
+     */
+    @Override
+    public
+    void load(
+        final Object... address
+        ) {
+        final Path path = path(address);
+        if (Files.isDirectory(path))
+            for (final Path file : listing(path))
+                map(file, false);
+        else
+            map(path, false);
+    }
+
+    /**
+     * Retrieves the contents of the file at the specified address, mapping it if it is not mapped.
+     * <p/>
+     * The returned data supplies a new read-only buffer view of the mapping, positioned at the start of the file.
+     *
+     * @param type the path parts.
+     * @return the file data.
+     * @throws UncheckedIOException if the file cannot be mapped.
+     */
+    @Override
+    public
+    Mapping retrieve(
+        final Object... type
+        ) {
+        final Path path = path(type);
+        Mapping mapping;
+        final Path previous;
+        synchronized (this) {
+            mapping = mappings.get(path);
+            previous = last;
+            last = path;
+        }
+
+        if (mapping == null)
+            mapping = map(path, true);
+
+        if (prefetch > 0 && previous != null && !previous.equals(path) && path.getParent() != null && path.getParent().equals(previous.getParent()))
+            prefetch(path);
+
+        return mapping;
+    }
+
+    /**
+     * Releases the mapping of the file at the specified address.
+     *
+     * @param address the path parts.
+     */
+    public synchronized
+    void invalidate(
+        final Object... address
+        ) {
+        mappings.remove(path(address));
+    }
+
+    /**
+     * Returns the number of open mappings.
+     *
+     * @return the number of mappings.
+     */
+    public synchronized
+    int size() {
+        return mappings.size();
+    }
+
+    /**
+     * Returns the number of prefetches that failed, for example because a file was deleted or could not be mapped.
+     *
+     * @return the number of failed prefetches.
+     */
+    public
+    long getPrefetchFailures() {
+        return prefetchFailures.sum();
+    }
+
+    /**
+     * Releases all mappings, stops watching directories, and stops the watcher thread.
+     * <p/>
+     * Files can still be mapped after the file system is closed, but they are no longer watched.
+     *
+     * @throws IOException if the watch service cannot be closed.
+     */
+    @Override
+    public
+    void close()
+    throws IOException {
+        final WatchService watcher;
+        synchronized (this) {
+            mappings.clear();
+            directories.clear();
+            listings.clear();
+            watcher = this.watcher;
+            this.watcher = null;
+            closed = true;
+        }
+
+        if (watcher != null)
+            watcher.close();
+    }
+
+    /**
+     * Returns the normalized absolute path of the address.
+     *
+     * @param address the path parts.
+     * @return the path.
+     * @throws IllegalArgumentException if the address is empty.
+     */
+    protected static
+    Path path(
+        final Object... address
+        ) {
+        if (address.length == 0)
+            throw new IllegalArgumentException();
+
+        Path path = address[0] instanceof Path
+                    ? (Path) address[0]
+                    : Paths.get(String.valueOf(address[0]));
+        for (int i = 1; i < address.length; i++)
+            path = path.resolve(String.valueOf(address[i]));
+        return path.toAbsolutePath().normalize();
+    }
+
+    /**
+     * Maps the file and puts the mapping in the table, releasing the least recently used mappings if the table is full.
+     * <p/>
+     * If the file is already mapped and the existing mapping should be kept, the existing mapping is returned.
+     *
+     * @param path the file path.
+     * @param keep the flag indicating if an existing mapping should be kept.
+     * @return the mapping.
+     * @throws UncheckedIOException if the file cannot be mapped, or is larger than {@link Integer#MAX_VALUE} bytes.
+     */
+    private
+    Mapping map(
+        final Path path,
+        final boolean keep
+        ) {
+        final MappedByteBuffer buffer;
+        try (final FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            if (channel.size() > Integer.MAX_VALUE)
+                throw new IOException(path + " is larger than " + Integer.MAX_VALUE + " bytes");
+
+            buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+        catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        final Path directory = path.getParent();
+        synchronized (this) {
+            if (keep) {
+                final Mapping existing = mappings.get(path);
+                if (existing != null)
+                    return existing;
+            }
+
+            final Mapping mapping = new Mapping(buffer);
+            mappings.put(path, mapping);
+            final Iterator<Mapping> iterator = mappings.values().iterator();
+            while (mappings.size() > maxMappings) {
+                iterator.next();
+                iterator.remove();
+            }
+
+            if (directory != null && !directories.containsKey(directory))
+                try {
+                    directories.put(directory, directory.register(watcher(), ENTRY_CREATE, ENTRY_DELETE, ENTRY_MODIFY));
+                }
+                catch (IOException | ClosedWatchServiceException e) {
+                    // the mapping is kept, but is not invalidated on change
+                }
+
+            return mapping;
+        }
+    }
+
+    /**
+     * Returns the sorted regular files of the directory, caching the listing until the directory changes.
+     *
+     * @param directory the directory.
+     * @return the sorted files.
+     * @throws UncheckedIOException if the directory cannot be listed.
+     */
+    private
+    List<Path> listing(
+        final Path directory
+        ) {
+        synchronized (this) {
+            final List<Path> listing = listings.get(directory);
+            if (listing != null)
+                return listing;
+        }
+
+        final List<Path> listing = new ArrayList<>();
+        try (final DirectoryStream<Path> stream = Files.newDirectoryStream(directory, Files::isRegularFile)) {
+            for (final Path file : stream)
+                listing.add(file.toAbsolutePath().normalize());
+        }
+        catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        Collections.sort(listing);
+        synchronized (this) {
+            listings.put(directory, listing);
+        }
+
+        return listing;
+    }
+
+    /**
+     * Maps and loads the files following the specified file in its directory in the background.
+     * <p/>
+     * Files that are already mapped are skipped, and are checked without changing their place in the access order; so prefetching neither reloads their pages nor keeps them from being released.
+     * A file that fails to be mapped is counted and skipped, and the following files are still prefetched.
+     *
+     * @param path the current file.
+     */
+    private
+    void prefetch(
+        final Path path
+        ) {
+        CompletableFuture.runAsync(() -> {
+            final List<Path> listing = listing(path.getParent());
+            int i = Collections.binarySearch(listing, path);
+            i = i < 0
+                ? -i - 1
+                : i + 1;
+            for (final int end = Math.min(listing.size(), i + prefetch); i < end; i++) {
+                final Path file = listing.get(i);
+                synchronized (this) {
+                    if (mappings.containsKey(file))
+                        continue;
+                }
+
+                try {
+                    map(file, true).buffer.load();
+                }
+                catch (RuntimeException e) {
+                    prefetchFailures.increment();
+                }
+            }
+        }).whenComplete((result, e) -> {
+            if (e != null)
+                prefetchFailures.increment();
+        });
+    }
+
+    /**
+     * Returns the watch service, creating it and starting the watcher thread if it is not created yet.
+     * Must be called while holding the lock of this file system.
+     *
+     * @return the watch service.
+     * @throws IOException if the watch service cannot be created.
+     * @throws ClosedWatchServiceException if the file system is closed.
+     */
+    private
+    WatchService watcher()
+    throws IOException {
+        if (closed)
+            throw new ClosedWatchServiceException();
+
+        if (watcher == null) {
+            final WatchService watcher = java.nio.file.FileSystems.getDefault().newWatchService();
+            final Thread watching = new Thread(() -> watch(watcher), "FileSystem watcher");
+            watching.setDaemon(true);
+            watching.start();
+            this.watcher = watcher;
+        }
+
+        return watcher;
+    }
+
+    /**
+     * Invalidates mappings and listings of changed files until the specified watch service is closed.
+     *
+     * @param watcher the watch service.
+     */
+    private
+    void watch(
+        final WatchService watcher
+        ) {
+        try {
+            for (;;) {
+                final WatchKey key = watcher.take();
+                final Path directory = (Path) key.watchable();
+                synchronized (this) {
+                    listings.remove(directory);
+                    for (final WatchEvent<?> event : key.pollEvents())
+                        if (event.kind() == OVERFLOW)
+                            mappings.keySet().removeIf(file -> directory.equals(file.getParent()));
+                        else
+                            mappings.remove(directory.resolve((Path) event.context()));
+
+                    if (!key.reset())
+                        directories.remove(directory);
+                }
+            }
+        }
+        catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        catch (ClosedWatchServiceException e) {}
+    }
+
+    /**
+     * {@code Mapping} is the cached data of a memory-mapped file.
+     *
+     * @since 1.8
+     * @author Alireza Kamran
+     */
+    public static final
+    class Mapping
+    implements Data<ByteBuffer>
+    {
+        /** The mapped buffer. */
+        private final
+        MappedByteBuffer buffer;
+
+        /**
+         * Creates a mapping with the specified buffer.
+         *
+         * @param buffer the mapped buffer.
+         */
+        Mapping(
+            final MappedByteBuffer buffer
+            ) {
+            this.buffer = buffer;
+        }
+
+        /**
+         * Returns a new read-only view of the mapped buffer, positioned at the start of the file.
+         *
+         * @return the buffer view.
+         */
+        @Override
+        public
+        ByteBuffer get() {
+            return buffer.asReadOnlyBuffer();
+        }
+
+        @Override
+        public
+        Class<? extends ByteBuffer> getType() {
+            return ByteBuffer.class;
+        }
+
+        /**
+         * Returns the file size.
+         *
+         * @return the size.
+         */
+        public
+        int size() {
+            return buffer.capacity();
+        }
+    }
+}
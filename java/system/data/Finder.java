@@ -1,6 +1,10 @@
 package system.data;
 
 import java.util.Iterator;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * {@code Finder} classifies all element finders in the system.
@@ -31,4 +35,31 @@ extends
      */
     @Override
     Finder<T> found();
+
+    /**
+     * Returns a spliterator over the remaining found elements.
+     * <p/>
+     * The default implementation wraps this finder as an iterator, and advances this finder as the spliterator is traversed.
+     * Array-based finders override this method with spliterators that split the iteration bounds, so that they can be traversed in parallel.
+     *
+     * @return the spliterator.
+     */
+    default Spliterator<T> spliterator() {
+        return Spliterators.spliteratorUnknownSize(this, Spliterator.ORDERED);
+    }
+
+    /**
+     * Returns a sequential or parallel stream of the found elements.
+     *
+     * @param parallel the flag indicating if the stream should be parallel.
+     *
+     * @return the stream of found elements.
+     *
+     * @see #spliterator()
+     */
+    default Stream<T> stream(
+        final boolean parallel
+        ) {
+        return StreamSupport.stream(spliterator(), parallel);
+    }
 }
\ No newline at end of file
@@ -1,5 +1,6 @@
 package system.data;
 
+import static system.data.Constant.FractionOverflow;
 import static system.data.Constant.StandardObjectInoperable;
 import static system.data.Constant.ZeroDenominator;
 import static system.data.Constant.ZeroNumerator;
@@ -12,7 +13,8 @@ import java.util.function.BooleanSupplier;
  * <p/>
  * For practical reasons, this class implementation is concerned only with calculations intended for musical durations.
  * Therefore, the numerator and denominator are accepted respectively as {@code int} and {@code short} values at instantiation time and any point in the logic after that.
- * All operations presume unlikeliness of underflow/overflow occurrences meaning that there are no validations done to avoid those cases.
+ * Operations are carried out in 64-bit arithmetic, cancelling common factors across the operands first, and the results are reduced only if they would not fit in the fraction otherwise.
+ * An {@code ArithmeticException} is thrown if a result does not fit in the fraction even after reduction, and the fraction is left unchanged.
  * <p/>
  * All fractions can automatically perform simplification which reduces the numerator and denominator values to the smallest integer amount available.
  * Simplification flag is turned off by default for all operations unless explicitly set to on or when a non-zero default denominator is passed at instantiation time.
@@ -281,6 +283,7 @@ implements
      * @param fraction the fraction.
      *
      * @throws NullPointerException if the specified fraction is null.
+     * @throws ArithmeticException if the sum does not fit in the fraction.
      */
     public
     void add(
@@ -288,10 +291,10 @@ implements
         ) {
         synchronized (OPERATION_LOCK) {
             if (denominator == fraction.denominator)
-                numerator += fraction.numerator;
+                set((long) numerator + fraction.numerator, denominator);
             else {
-                numerator = numerator * fraction.denominator + fraction.numerator * denominator;
-                denominator *= fraction.denominator;
+                final long gcd = Lambda.gcd(Math.abs((long) denominator), Math.abs((long) fraction.denominator));
+                set((long) numerator * (fraction.denominator / gcd) + fraction.numerator * (denominator / gcd), denominator * (fraction.denominator / gcd));
             }
 
             OPERATION_LOCK = true;
@@ -324,16 +327,19 @@ implements
      *
      * @throws NullPointerException if the specified fraction is null.
      * @throws IllegalArgumentException if the specified fraction is zero.
+     * @throws ArithmeticException if the quotient does not fit in the fraction.
      */
     public
     void divide(
         final Fraction fraction
         ) {
         synchronized (OPERATION_LOCK) {
-            numerator *= fraction.denominator;
-            denominator *= fraction.numerator;
-            validateDenominator();
+            if (fraction.numerator == 0)
+                throw new IllegalArgumentException(ZeroDenominator);
 
+            final long numeratorGcd = Lambda.gcd(Math.abs((long) numerator), Math.abs((long) fraction.numerator));
+            final long denominatorGcd = Lambda.gcd(Math.abs((long) denominator), Math.abs((long) fraction.denominator));
+            set(numerator / numeratorGcd * (fraction.denominator / denominatorGcd), denominator / denominatorGcd * (fraction.numerator / numeratorGcd));
             OPERATION_LOCK = true;
         }
 
@@ -370,14 +376,16 @@ implements
      * @param fraction the fraction.
      *
      * @throws NullPointerException if the specified fraction is null.
+     * @throws ArithmeticException if the product does not fit in the fraction.
      */
     public
     void multiply(
         final Fraction fraction
         ) {
         synchronized (OPERATION_LOCK) {
-            numerator *= fraction.numerator;
-            denominator *= fraction.denominator;
+            final long gcd = Lambda.gcd(Math.abs((long) numerator), Math.abs((long) fraction.denominator));
+            final long crossGcd = Lambda.gcd(Math.abs((long) fraction.numerator), Math.abs((long) denominator));
+            set(numerator / gcd * (fraction.numerator / crossGcd), denominator / crossGcd * (fraction.denominator / gcd));
             OPERATION_LOCK = true;
         }
 
@@ -464,7 +472,7 @@ implements
      */
     private
     void simplifyRegularly() {
-        final int gcd = Lambda.gcd(Integer.signum(numerator) * numerator, denominator);
+        final int gcd = (int) Lambda.gcd(Math.abs((long) numerator), denominator);
         numerator /= gcd;
         denominator /= gcd;
     }
@@ -504,6 +512,7 @@ implements
      * @param fraction the fraction.
      *
      * @throws NullPointerException if the specified fraction is null.
+     * @throws ArithmeticException if the difference does not fit in the fraction.
      */
     public
     void subtract(
@@ -511,10 +520,10 @@ implements
         ) {
         synchronized (OPERATION_LOCK) {
             if (denominator == fraction.denominator)
-                numerator -= fraction.numerator;
+                set((long) numerator - fraction.numerator, denominator);
             else {
-                numerator = subtractedNumeratorPart(fraction);
-                denominator *= fraction.denominator;
+                final long gcd = Lambda.gcd(Math.abs((long) denominator), Math.abs((long) fraction.denominator));
+                set((long) numerator * (fraction.denominator / gcd) - fraction.numerator * (denominator / gcd), denominator * (fraction.denominator / gcd));
             }
 
             OPERATION_LOCK = true;
@@ -524,17 +533,28 @@ implements
     }
 
     /**
-     * Returns the non-simplified numerator part value after performing a subtraction from the specified fraction.
+     * Sets the numerator and denominator to the specified values, reducing them by their greatest common denominator only if they do not fit in the fraction otherwise.
      *
-     * @param fraction the fraction.
+     * @param numerator the numerator.
+     * @param denominator the non-zero denominator.
      *
-     * @return the numerator part value.
+     * @throws ArithmeticException if the reduced values do not fit in the fraction.
      */
     private
-    int subtractedNumeratorPart(
-        final Fraction fraction
+    void set(
+        long numerator,
+        long denominator
         ) {
-        return numerator * fraction.denominator - denominator * fraction.numerator;
+        if (numerator < Integer.MIN_VALUE || numerator > Integer.MAX_VALUE || denominator < Short.MIN_VALUE || denominator > Short.MAX_VALUE) {
+            final long gcd = Lambda.gcd(Math.abs(numerator), Math.abs(denominator));
+            numerator /= gcd;
+            denominator /= gcd;
+            if (numerator < Integer.MIN_VALUE || numerator > Integer.MAX_VALUE || denominator < Short.MIN_VALUE || denominator > Short.MAX_VALUE)
+                throw new ArithmeticException(FractionOverflow);
+        }
+
+        this.numerator = (int) numerator;
+        this.denominator = (short) denominator;
     }
 
     /**
@@ -566,11 +586,12 @@ implements
      * @param n the number.
      *
      * @throws NullPointerException if the number is null.
+     * @throws ArithmeticException if the sum does not fit in the fraction.
      */
     @Override
     public void add(final Number n) {
         synchronized (OPERATION_LOCK) {
-            numerator += n.intValue() * denominator;
+            set(numerator + (long) n.intValue() * denominator, denominator);
             OPERATION_LOCK = true;
         }
 
@@ -616,7 +637,7 @@ implements
     public int compareTo(final Fraction fraction) {
         return fraction == null
                ? Integer.MAX_VALUE
-               : subtractedNumeratorPart(fraction);
+               : Long.signum(((long) numerator * fraction.denominator - (long) fraction.numerator * denominator) * Integer.signum(denominator * fraction.denominator));
     }
 
     /**
@@ -626,13 +647,17 @@ implements
      *
      * @throws NullPointerException if the number is null.
      * @throws IllegalArgumentException if the number is zero.
+     * @throws ArithmeticException if the quotient does not fit in the fraction.
      */
     @Override
     public void divide(final Number n) {
         synchronized (OPERATION_LOCK) {
-            denominator *= n.intValue();
-            validateDenominator();
+            final long divisor = n.intValue();
+            if (divisor == 0)
+                throw new IllegalArgumentException(ZeroDenominator);
 
+            final long gcd = Lambda.gcd(Math.abs((long) numerator), Math.abs(divisor));
+            set(numerator / gcd, denominator * (divisor / gcd));
             OPERATION_LOCK = true;
         }
 
@@ -683,10 +708,9 @@ implements
 
     /**
      * Inverts the fraction into its reciprocal.
-     * <p/>
-     * This implementation performs an unsafe cast from {@code int} to {@code short}.
      *
      * @throws IllegalStateException if the numerator is zero.
+     * @throws ArithmeticException if the reciprocal does not fit in the fraction.
      */
     @Override
     public void invert() {
@@ -694,8 +718,7 @@ implements
             if (numerator == 0)
                 throw new IllegalStateException(ZeroNumerator);
 
-            numerator = denominator;
-            denominator = (short) numerator;
+            set(denominator, numerator);
             OPERATION_LOCK = true;
         }
 
@@ -752,11 +775,14 @@ implements
      * @param n the number.
      *
      * @throws NullPointerException if the number is null.
+     * @throws ArithmeticException if the product does not fit in the fraction.
      */
     @Override
     public void multiply(final Number n) {
         synchronized (OPERATION_LOCK) {
-            numerator *= n.intValue();
+            final long factor = n.intValue();
+            final long gcd = Lambda.gcd(Math.abs(factor), Math.abs((long) denominator));
+            set(numerator * (factor / gcd), denominator / gcd);
             OPERATION_LOCK = true;
         }
 
@@ -786,7 +812,7 @@ implements
     @Override
     public void reverse() {
         synchronized (OPERATION_LOCK) {
-            numerator = -numerator;
+            set(-(long) numerator, denominator);
             OPERATION_LOCK = true;
         }
     }
@@ -810,11 +836,12 @@ implements
      * @param n the number.
      *
      * @throws NullPointerException if the number is null.
+     * @throws ArithmeticException if the difference does not fit in the fraction.
      */
     @Override
     public void subtract(final Number n) {
         synchronized (OPERATION_LOCK) {
-            numerator -= n.intValue() * denominator;
+            set(numerator - (long) n.intValue() * denominator, denominator);
             OPERATION_LOCK = true;
         }
 
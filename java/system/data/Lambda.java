@@ -2,14 +2,23 @@ package system.data;
 
 import java.lang.reflect.Array;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Comparator;
 import java.util.Iterator;
 import java.util.List;
 import java.util.NoSuchElementException;
+import java.util.Spliterator;
 import java.util.function.BooleanSupplier;
 import java.util.function.Consumer;
 import java.util.function.Function;
+import java.util.function.IntConsumer;
+import java.util.function.IntFunction;
+import java.util.function.IntPredicate;
 import java.util.function.Supplier;
+import java.util.function.ToDoubleFunction;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * {@code Lambda} defines static members for performing common mathematical or algorithmic operations.
@@ -20,6 +29,10 @@ import java.util.function.Supplier;
 public final
 class Lambda
 {
+    /** The number of keys swept by each task of parallel sorted joins. */
+    private static final
+    int ParallelJoinChunk = 1 << 13;
+
     /**
      * Returns true if the two specified objects are mutually non-null and not equal; and false otherwise.
      *
@@ -359,22 +372,111 @@ class Lambda
     }
 
     /**
-     * Returns the greatest common denominator of the two non-negative integers.
+     * Returns the greatest common denominator of the absolute values of the two integers.
+     * <p/>
+     * If the result is 2<sup>31</sup>, which is when one number is {@link Integer#MIN_VALUE} and the other is zero or also {@code Integer.MIN_VALUE}, {@code Integer.MIN_VALUE} is returned.
      *
      * @param a the first number.
      * @param b the second number.
      *
      * @return the greatest common denominator of a and b.
+     *
+     * @see #gcd(long, long)
      */
     public static
     int gcd(
         final int a,
         final int b
         ) {
+        return (int) gcd((long) a, (long) b);
+    }
+
+    /**
+     * Returns the greatest common denominator of the absolute values of the two long integers.
+     * <p/>
+     * This implementation uses the binary algorithm, which only shifts and subtracts and performs no divisions.
+     * If the result is 2<sup>63</sup>, which is when one number is {@link Long#MIN_VALUE} and the other is zero or also {@code Long.MIN_VALUE}, {@code Long.MIN_VALUE} is returned.
+     *
+     * @param a the first number.
+     * @param b the second number.
+     *
+     * @return the greatest common denominator of a and b.
+     */
+    public static
+    long gcd(
+        long a,
+        long b
+        ) {
+        a = Math.abs(a);
+        b = Math.abs(b);
+        if (a == 0)
+            return b;
         if (b == 0)
             return a;
+
+        final int shift = Long.numberOfTrailingZeros(a | b);
+        a >>>= Long.numberOfTrailingZeros(a);
+        do {
+            b >>>= Long.numberOfTrailingZeros(b);
+            if (a > b) {
+                final long t = a;
+                a = b;
+                b = t;
+            }
+
+            b -= a;
+        }
+        while (b != 0);
+
+        return a << shift;
+    }
+
+    /**
+     * Joins the keys with the sorted array elements and returns the array index of each key, or {@code -(insertion point) - 1} for the keys not found.
+     *
+     * @param count the number of keys.
+     * @param length the array length.
+     * @param keys the key comparator by key indices.
+     * @param elements the key and element comparator by key and element indices.
+     * @param parallel the flag indicating if the keys should be swept in parallel.
+     *
+     * @return the array element indices.
+     */
+    private static
+    int[] join(
+        final int count,
+        final int length,
+        final IndexComparator keys,
+        final IndexComparator elements,
+        final boolean parallel
+        ) {
+        final int[] indices = new int[count];
+        int[] order = null;
+        for (int n = 1; n < count; n++)
+            if (keys.compare(n - 1, n) > 0) {
+                final Integer[] sorted = new Integer[count];
+                for (int m = 0; m < count; m++)
+                    sorted[m] = m;
+                if (parallel)
+                    Arrays.parallelSort(sorted, keys::compare);
+                else
+                    Arrays.sort(sorted, keys::compare);
+
+                order = new int[count];
+                for (int m = 0; m < count; m++)
+                    order[m] = sorted[m];
+                break;
+            }
+
+        final int[] sortedOrder = order;
+        if (parallel && count > ParallelJoinChunk)
+            IntStream.range(0, (count + ParallelJoinChunk - 1) / ParallelJoinChunk)
+                     .parallel()
+                     .forEach(c -> sweep(c * ParallelJoinChunk, Math.min(count, (c + 1) * ParallelJoinChunk), sortedOrder, length, elements, indices));
         else
-            return gcd(b, a % b);
+            sweep(0, count, sortedOrder, length, elements, indices);
+
+        return indices;
     }
 
     /**
@@ -629,6 +731,135 @@ class Lambda
                : SequentialLocator.backward(null, array, (final T n, final T element) -> comparator.apply(element) ? 0 : 1).index(null);
     }
 
+    /**
+     * Returns the indices of the first occurrences of the specified keys in the sorted array using the specified comparator, in a parallel merge-style sweep; or null if the keys or the array is null.
+     * <p/>
+     * The keys are sorted first if they are not already sorted, and then joined with the array in one pass that gallops over the array elements between successive keys.
+     * Result {@code i} is the index of key {@code i} in the array, or {@code -(insertion point) - 1} if the key is not found, in the same way as {@link java.util.Arrays#binarySearch(Object[], Object, Comparator)}.
+     * <p/>
+     * The keys are split into chunks that are swept concurrently in the common fork/join pool, each starting from a binary search of its first key.
+     *
+     * @param <T> the key, array, and comparator data type.
+     * @param keys the keys.
+     * @param sortedArray the array sorted in ascending order of the comparator.
+     * @param comparator the comparator.
+     *
+     * @return the array element indices, or null if the keys or the array is null.
+     *
+     * @throws NullPointerException if the comparator is null.
+     */
+    public static <T>
+    int[] parallelSortedFindIndices(
+        final T[] keys,
+        final T[] sortedArray,
+        final Comparator<? super T> comparator
+        ) {
+        return keys == null || sortedArray == null
+               ? null
+               : join(keys.length, sortedArray.length, (a, b) -> comparator.compare(keys[a], keys[b]), (key, element) -> comparator.compare(keys[key], sortedArray[element]), true);
+    }
+
+    /**
+     * Returns the indices of the first occurrences of the specified keys in the sorted array, in a parallel merge-style sweep; or null if the keys or the array is null.
+     * <p/>
+     * This implementation calls {@link Comparable#compareTo(Object)} internally.
+     *
+     * @param <T> the key and array type.
+     * @param keys the keys.
+     * @param sortedArray the sorted array.
+     *
+     * @return the array element indices, or null if the keys or the array is null.
+     *
+     * @see #parallelSortedFindIndices(Object[], Object[], Comparator)
+     */
+    public static <T extends Comparable<? super T>>
+    int[] parallelSortedFindIndices(
+        final T[] keys,
+        final T[] sortedArray
+        ) {
+        return parallelSortedFindIndices(keys, sortedArray, Comparator.naturalOrder());
+    }
+
+    /**
+     * Returns the indices of the first occurrences of the specified int keys in the sorted array, in a parallel merge-style sweep; or null if the keys or the array is null.
+     *
+     * @param keys the keys.
+     * @param sortedArray the array sorted in ascending order.
+     *
+     * @return the array element indices, or null if the keys or the array is null.
+     *
+     * @see #parallelSortedFindIndices(Object[], Object[], Comparator)
+     */
+    public static
+    int[] parallelSortedFindIndices(
+        final int[] keys,
+        final int[] sortedArray
+        ) {
+        return keys == null || sortedArray == null
+               ? null
+               : join(keys.length, sortedArray.length, (a, b) -> Integer.compare(keys[a], keys[b]), (key, element) -> Integer.compare(keys[key], sortedArray[element]), true);
+    }
+
+    /**
+     * Returns the indices of the first occurrences of the specified long keys in the sorted array, in a parallel merge-style sweep; or null if the keys or the array is null.
+     *
+     * @param keys the keys.
+     * @param sortedArray the array sorted in ascending order.
+     *
+     * @return the array element indices, or null if the keys or the array is null.
+     *
+     * @see #parallelSortedFindIndices(Object[], Object[], Comparator)
+     */
+    public static
+    int[] parallelSortedFindIndices(
+        final long[] keys,
+        final long[] sortedArray
+        ) {
+        return keys == null || sortedArray == null
+               ? null
+               : join(keys.length, sortedArray.length, (a, b) -> Long.compare(keys[a], keys[b]), (key, element) -> Long.compare(keys[key], sortedArray[element]), true);
+    }
+
+    /**
+     * Returns the indices of the first occurrences of the specified float keys in the sorted array, in a parallel merge-style sweep; or null if the keys or the array is null.
+     *
+     * @param keys the keys.
+     * @param sortedArray the array sorted in ascending order.
+     *
+     * @return the array element indices, or null if the keys or the array is null.
+     *
+     * @see #parallelSortedFindIndices(Object[], Object[], Comparator)
+     */
+    public static
+    int[] parallelSortedFindIndices(
+        final float[] keys,
+        final float[] sortedArray
+        ) {
+        return keys == null || sortedArray == null
+               ? null
+               : join(keys.length, sortedArray.length, (a, b) -> Float.compare(keys[a], keys[b]), (key, element) -> Float.compare(keys[key], sortedArray[element]), true);
+    }
+
+    /**
+     * Returns the indices of the first occurrences of the specified double keys in the sorted array, in a parallel merge-style sweep; or null if the keys or the array is null.
+     *
+     * @param keys the keys.
+     * @param sortedArray the array sorted in ascending order.
+     *
+     * @return the array element indices, or null if the keys or the array is null.
+     *
+     * @see #parallelSortedFindIndices(Object[], Object[], Comparator)
+     */
+    public static
+    int[] parallelSortedFindIndices(
+        final double[] keys,
+        final double[] sortedArray
+        ) {
+        return keys == null || sortedArray == null
+               ? null
+               : join(keys.length, sortedArray.length, (a, b) -> Double.compare(keys[a], keys[b]), (key, element) -> Double.compare(keys[key], sortedArray[element]), true);
+    }
+
     /**
      * Rounds the number away from zero and returns it.
      *
@@ -769,6 +1000,133 @@ class Lambda
                : new BinaryFinder<T>(null, sortedArray, (final T n, final T element) -> comparator.apply(element) ? 0 : 1).index(null);
     }
 
+    /**
+     * Returns the indices of the first occurrences of the specified keys in the sorted array using the specified comparator, in a merge-style sweep; or null if the keys or the array is null.
+     * <p/>
+     * The keys are sorted first if they are not already sorted, and then joined with the array in one pass that gallops over the array elements between successive keys.
+     * Result {@code i} is the index of key {@code i} in the array, or {@code -(insertion point) - 1} if the key is not found, in the same way as {@link java.util.Arrays#binarySearch(Object[], Object, Comparator)}.
+     *
+     * @param <T> the key, array, and comparator data type.
+     * @param keys the keys.
+     * @param sortedArray the array sorted in ascending order of the comparator.
+     * @param comparator the comparator.
+     *
+     * @return the array element indices, or null if the keys or the array is null.
+     *
+     * @throws NullPointerException if the comparator is null.
+     */
+    public static <T>
+    int[] sortedFindIndices(
+        final T[] keys,
+        final T[] sortedArray,
+        final Comparator<? super T> comparator
+        ) {
+        return keys == null || sortedArray == null
+               ? null
+               : join(keys.length, sortedArray.length, (a, b) -> comparator.compare(keys[a], keys[b]), (key, element) -> comparator.compare(keys[key], sortedArray[element]), false);
+    }
+
+    /**
+     * Returns the indices of the first occurrences of the specified keys in the sorted array, in a merge-style sweep; or null if the keys or the array is null.
+     * <p/>
+     * This implementation calls {@link Comparable#compareTo(Object)} internally.
+     *
+     * @param <T> the key and array type.
+     * @param keys the keys.
+     * @param sortedArray the sorted array.
+     *
+     * @return the array element indices, or null if the keys or the array is null.
+     *
+     * @see #sortedFindIndices(Object[], Object[], Comparator)
+     */
+    public static <T extends Comparable<? super T>>
+    int[] sortedFindIndices(
+        final T[] keys,
+        final T[] sortedArray
+        ) {
+        return sortedFindIndices(keys, sortedArray, Comparator.naturalOrder());
+    }
+
+    /**
+     * Returns the indices of the first occurrences of the specified int keys in the sorted array, in a merge-style sweep; or null if the keys or the array is null.
+     *
+     * @param keys the keys.
+     * @param sortedArray the array sorted in ascending order.
+     *
+     * @return the array element indices, or null if the keys or the array is null.
+     *
+     * @see #sortedFindIndices(Object[], Object[], Comparator)
+     */
+    public static
+    int[] sortedFindIndices(
+        final int[] keys,
+        final int[] sortedArray
+        ) {
+        return keys == null || sortedArray == null
+               ? null
+               : join(keys.length, sortedArray.length, (a, b) -> Integer.compare(keys[a], keys[b]), (key, element) -> Integer.compare(keys[key], sortedArray[element]), false);
+    }
+
+    /**
+     * Returns the indices of the first occurrences of the specified long keys in the sorted array, in a merge-style sweep; or null if the keys or the array is null.
+     *
+     * @param keys the keys.
+     * @param sortedArray the array sorted in ascending order.
+     *
+     * @return the array element indices, or null if the keys or the array is null.
+     *
+     * @see #sortedFindIndices(Object[], Object[], Comparator)
+     */
+    public static
+    int[] sortedFindIndices(
+        final long[] keys,
+        final long[] sortedArray
+        ) {
+        return keys == null || sortedArray == null
+               ? null
+               : join(keys.length, sortedArray.length, (a, b) -> Long.compare(keys[a], keys[b]), (key, element) -> Long.compare(keys[key], sortedArray[element]), false);
+    }
+
+    /**
+     * Returns the indices of the first occurrences of the specified float keys in the sorted array, in a merge-style sweep; or null if the keys or the array is null.
+     *
+     * @param keys the keys.
+     * @param sortedArray the array sorted in ascending order.
+     *
+     * @return the array element indices, or null if the keys or the array is null.
+     *
+     * @see #sortedFindIndices(Object[], Object[], Comparator)
+     */
+    public static
+    int[] sortedFindIndices(
+        final float[] keys,
+        final float[] sortedArray
+        ) {
+        return keys == null || sortedArray == null
+               ? null
+               : join(keys.length, sortedArray.length, (a, b) -> Float.compare(keys[a], keys[b]), (key, element) -> Float.compare(keys[key], sortedArray[element]), false);
+    }
+
+    /**
+     * Returns the indices of the first occurrences of the specified double keys in the sorted array, in a merge-style sweep; or null if the keys or the array is null.
+     *
+     * @param keys the keys.
+     * @param sortedArray the array sorted in ascending order.
+     *
+     * @return the array element indices, or null if the keys or the array is null.
+     *
+     * @see #sortedFindIndices(Object[], Object[], Comparator)
+     */
+    public static
+    int[] sortedFindIndices(
+        final double[] keys,
+        final double[] sortedArray
+        ) {
+        return keys == null || sortedArray == null
+               ? null
+               : join(keys.length, sortedArray.length, (a, b) -> Double.compare(keys[a], keys[b]), (key, element) -> Double.compare(keys[key], sortedArray[element]), false);
+    }
+
     /**
      * Returns the first encountered occurrence of the specified item in the sorted array using the specified comparator; or null if item is not found, the array is null, or the comparator is null.
      * <p/>
@@ -895,6 +1253,62 @@ class Lambda
                : new BinaryLocator<T>(null, sortedArray, (final T n, final T element) -> comparator.apply(element) ? 0 : 1).index(null);
     }
 
+    /**
+     * Sweeps the specified range of sorted keys over the sorted array elements and stores the array index of each key, or {@code -(insertion point) - 1} for the keys not found.
+     * <p/>
+     * The sweep starts from a binary search of the first key and gallops over the elements between successive keys.
+     *
+     * @param from the first sorted key position. (inclusive)
+     * @param to the last sorted key position. (exclusive)
+     * @param order the key indices in sorted order, or null if the keys are sorted.
+     * @param length the array length.
+     * @param elements the key and element comparator by key and element indices.
+     * @param indices the array element indices.
+     */
+    private static
+    void sweep(
+        final int from,
+        final int to,
+        final int[] order,
+        final int length,
+        final IndexComparator elements,
+        final int[] indices
+        ) {
+        int p = 0;
+        for (int n = from; n < to; n++) {
+            final int key = order == null
+                            ? n
+                            : order[n];
+            int low = p;
+            int high = length;
+            if (n > from && p < length && elements.compare(key, p) > 0) {
+                int bound = 1;
+                low = p + 1;
+                while (bound < length - p && elements.compare(key, p + bound) > 0) {
+                    low = p + bound + 1;
+                    bound <<= 1;
+                }
+
+                high = Math.min(length, p + bound);
+            }
+            else if (n > from)
+                high = p;
+
+            while (low < high) {
+                final int mid = (low + high) >>> 1;
+                if (elements.compare(key, mid) > 0)
+                    low = mid + 1;
+                else
+                    high = mid;
+            }
+
+            p = low;
+            indices[key] = p < length && elements.compare(key, p) == 0
+                           ? p
+                           : -p - 1;
+        }
+    }
+
     /**
      * Converts an iterable into an array, or returns null if the iterable is null.
      * <p/>
@@ -1108,7 +1522,7 @@ class Lambda
          * <p/>
          * This implementation calls the item's {@link Comparable#compareTo(Object)} method internally, unless the item is null; in that case, the same method is called on each array element instead.
          * <p/>
-         * If the ascending flag is null, the comparator will not be reset.
+         * If the ascending flag is null, the array is treated as ascending.
          * If the flag is true, the {@link Comparable#compareTo(Object)} result will be used; otherwise the result will be negated.
          *
          * @param item the finder item.
@@ -1125,7 +1539,6 @@ class Lambda
             ) {
             super(item, array, ascending);
             ComparatorAdjuster.reset(this, item);
-            resetComparatorSupplier(comparator);
         }
 
         /**
@@ -1253,13 +1666,17 @@ class Lambda
         protected
         boolean found = false;
 
-        /** The comparator supplier. */
-        private
-        Supplier<Integer> comp;
+        /** The search mode. */
+        protected
+        Mode mode = Mode.Bisection;
 
-        /** The advance consumer. */
-        private
-        Consumer<Integer> advance;
+        /** The numeric key function used in interpolation mode. */
+        protected
+        ToDoubleFunction<? super T> key;
+
+        /** The previous hit index, where galloping starts. */
+        protected
+        int hint;
 
         /**
          * Creates a binary finder with the specified item, sorted array, ascending flag, and null comparator.
@@ -1283,12 +1700,13 @@ class Lambda
 
             j = start;
             k = end;
+            hint = i;
         }
 
         /**
          * Creates a binary finder with the specified item, sorted array, ascending flag, and comparator.
          * <p/>
-         * If the ascending flag is null, the comparator will not be reset.
+         * If the ascending flag is null, the array is treated as ascending.
          * If the flag is true, the {@link Comparator#compare(Object, Object)} will receive the item as the first argument and the array element as the second argument; otherwise the order is reversed.
          *
          * @param item the finder item.
@@ -1297,8 +1715,6 @@ class Lambda
          * @param comparator the comparator.
          *
          * @throws IllegalArgumentException if the array or comparator is null.
-         *
-         * @see #resetComparatorSupplier(Comparator)
          */
         public
         BinaryFinder(
@@ -1313,10 +1729,10 @@ class Lambda
             setEndIndex(array.length);
             setIndex((start + end) / 2);
             this.ascending = ascending;
-            resetComparatorSupplier(comparator);
 
             j = start;
             k = end;
+            hint = i;
         }
 
         /**
@@ -1340,33 +1756,19 @@ class Lambda
         }
 
         /**
-         * Creates and sets the comparator supplier based on the sort order of the array.
+         * Compares the item with the array element at the specified index, according to the sort order of the array.
          *
-         * @param comparator the comparator.
+         * @param index the array index.
+         *
+         * @return a negative integer if the item is located before the index, zero if it matches the element, or a positive integer if it is located after the index.
          */
         protected
-        void resetComparatorSupplier(
-            final Comparator<? super T> comparator
+        int direction(
+            final int index
             ) {
-            if (ascending != null)
-                if (ascending) {
-                    comp = () -> comparator.compare(item, array[j]);
-                    advance = (final Integer res) -> {
-                        if (res < 0)
-                            k = i;
-                        else
-                            j = i + 1;
-                    };
-                }
-                else {
-                    comp = () -> comparator.compare(array[j], item);
-                    advance = (final Integer res) -> {
-                        if (res < 0)
-                            j = i + 1;
-                        else
-                            k = i;
-                    };
-                }
+            return Boolean.FALSE.equals(ascending)
+                   ? comparator.compare(array[index], item)
+                   : comparator.compare(item, array[index]);
         }
 
         @Override
@@ -1376,61 +1778,263 @@ class Lambda
 
         /**
          * {@inheritDoc}
+         * <p/>
+         * The search runs according to the finder mode, and the last found index is kept as the starting point of galloping searches.
          *
          * @return true if next match exists, or false otherwise.
          *
-         * @throws NullPointerException if the sort order is null, the comparator is null, or an argument is null and the comparator does not permit null arguments.
+         * @throws NullPointerException if the comparator is null, or an argument is null and the comparator does not permit null arguments.
          */
         @Override
         protected boolean nextMatchExists() {
-            i = (j + k) / 2;
-            while (!found && i >= start && i < end && j != k) {
-                final int result = comp.get();
-                if (result == 0)
-                    found = true;
-                else {
-                    advance.accept(result);
-                    found = false;
-                }
+            if (found)
+                return true;
+
+            switch (mode) {
+            case Galloping:
+                gallop();
+                break;
+
+            case Interpolation:
+                if (key != null)
+                    interpolate();
+                else
+                    bisect();
 
-                i = (j + k) / 2;
+                break;
+
+            default:
+                bisect();
             }
 
+            if (found)
+                hint = i;
+
             return found;
         }
 
         /**
-         * {@inheritDoc}
-         *
-         * @return the found array element.
-         *
-         * @throws NoSuchElementException if the array element is not found or the iteration has no more elements.
+         * Bisects the remaining search range until the item is found or the range is empty.
          */
-        @Override
-        public T next() {
-            if (found)
-                return array[i];
+        protected
+        void bisect() {
+            while (j < k) {
+                i = (j + k) >>> 1;
+                if (narrow())
+                    return;
+            }
 
-            throw new NoSuchElementException();
+            i = j;
         }
 
         /**
-         * {@inheritDoc}
-         * <p/>
-         * This implementation resets the comparator to according to the array sort order.
-         *
-         * @param comparator the comparator.
-         *
-         * @see #validateComparator()
-         * @see #resetComparatorSupplier(Comparator)
+         * Searches exponentially growing ranges around the previous hit index, and then bisects the range that contains the item.
          */
-        public
-        void setComparator(
-            Comparator<? super T> comparator
-            ) {
-            this.comparator = comparator;
-            validateComparator();
-            resetComparatorSupplier(this.comparator);
+        protected
+        void gallop() {
+            if (j < k) {
+                final int h = Math.min(Math.max(hint, j), k - 1);
+                i = h;
+                final int result = direction(h);
+                if (result == 0) {
+                    found = true;
+                    return;
+                }
+
+                int bound = 1;
+                if (result > 0) {
+                    j = h + 1;
+                    while (bound > 0 && bound < k - h) {
+                        if (direction(h + bound) <= 0) {
+                            k = h + bound + 1;
+                            break;
+                        }
+
+                        j = h + bound + 1;
+                        bound <<= 1;
+                    }
+                }
+                else {
+                    k = h;
+                    while (bound > 0 && bound <= h - j) {
+                        if (direction(h - bound) >= 0) {
+                            j = h - bound;
+                            break;
+                        }
+
+                        k = h - bound;
+                        bound <<= 1;
+                    }
+                }
+            }
+
+            bisect();
+        }
+
+        /**
+         * Probes the remaining search range at the position interpolated from the numeric keys of the item and the range bounds, until the item is found or the range is empty.
+         * <p/>
+         * If a probe does not halve the range, the next probe bisects it; so the search never takes more than twice the steps of a bisection.
+         */
+        protected
+        void interpolate() {
+            final double x = key.applyAsDouble(item);
+            boolean interpolating = true;
+            while (j < k) {
+                final int size = k - j;
+                i = (j + k) >>> 1;
+                if (interpolating) {
+                    final double low = key.applyAsDouble(array[j]);
+                    final double high = key.applyAsDouble(array[k - 1]);
+                    final double fraction = (x - low) / (high - low);
+                    if (fraction >= 0 && fraction <= 1)
+                        i = j + (int) (fraction * (k - 1 - j));
+                    else if (fraction < 0)
+                        i = j;
+                    else if (fraction > 1)
+                        i = k - 1;
+                }
+
+                if (narrow())
+                    return;
+
+                interpolating = k - j <= size / 2;
+            }
+
+            i = j;
+        }
+
+        /**
+         * Compares the item with the array element at the current index, and narrows the search range or sets the "location found" flag.
+         *
+         * @return true if the item is found, and false otherwise.
+         */
+        private
+        boolean narrow() {
+            final int result = direction(i);
+            if (result == 0)
+                return found = true;
+
+            if (result < 0)
+                k = i;
+            else
+                j = i + 1;
+
+            return false;
+        }
+
+        /**
+         * {@inheritDoc}
+         *
+         * @return the found array element.
+         *
+         * @throws NoSuchElementException if the array element is not found or the iteration has no more elements.
+         */
+        @Override
+        public T next() {
+            if (found)
+                return array[i];
+
+            throw new NoSuchElementException();
+        }
+
+        /**
+         * {@inheritDoc}
+         * <p/>
+         * This implementation restarts the search.
+         *
+         * @param comparator the comparator.
+         *
+         * @see #validateComparator()
+         */
+        public
+        void setComparator(
+            Comparator<? super T> comparator
+            ) {
+            this.comparator = comparator;
+            validateComparator();
+            restart();
+        }
+
+        /**
+         * Returns the search mode.
+         *
+         * @return the search mode.
+         */
+        public
+        Mode getMode() {
+            return mode;
+        }
+
+        /**
+         * Returns the numeric key function used in interpolation mode.
+         *
+         * @return the key function.
+         */
+        public
+        ToDoubleFunction<? super T> getKey() {
+            return key;
+        }
+
+        /**
+         * Sets the item and restarts the search within the iteration bounds.
+         * <p/>
+         * The previous hit index is kept, so galloping searches for successive items start where the last item was found.
+         *
+         * @param item the item.
+         */
+        @Override
+        public void setItem(final T item) {
+            super.setItem(item);
+            restart();
+        }
+
+        /**
+         * Sets the search mode.
+         *
+         * @param mode the search mode.
+         *
+         * @throws IllegalArgumentException if the mode is null.
+         */
+        public
+        void setMode(
+            final Mode mode
+            ) {
+            if (mode == null)
+                throw new IllegalArgumentException();
+
+            this.mode = mode;
+        }
+
+        /**
+         * Sets the search mode to interpolation, using the specified numeric key function.
+         * <p/>
+         * The key function must be monotonic in the array sort order; it only guides the probe positions, and matches are still decided by the comparator.
+         *
+         * @param key the key function.
+         *
+         * @throws IllegalArgumentException if the key function is null.
+         */
+        public
+        void setMode(
+            final ToDoubleFunction<? super T> key
+            ) {
+            if (key == null)
+                throw new IllegalArgumentException();
+
+            this.key = key;
+            mode = Mode.Interpolation;
+        }
+
+        /**
+         * Resets the search range to the iteration bounds and clears the "location found" flag.
+         */
+        protected
+        void restart() {
+            i = (start + end) >>> 1;
+            j = start;
+            k = end;
+            found = false;
         }
 
         /**
@@ -1471,6 +2075,25 @@ class Lambda
             this.start = start;
             validateStartIndex();
         }
+
+        /**
+         * {@code Mode} enumerates the search modes of binary finders.
+         *
+         * @since 1.8
+         * @author Alireza Kamran
+         */
+        public
+        enum Mode
+        {
+            /** The bisection mode, which halves the search range at every step. */
+            Bisection,
+
+            /** The galloping mode, which searches exponentially growing ranges around the previous hit index before bisecting, and suits nearly monotonic lookups. */
+            Galloping,
+
+            /** The interpolation mode, which probes the position interpolated from the numeric keys, and suits uniformly distributed keys. */
+            Interpolation
+        }
     }
 
     /**
@@ -1710,136 +2333,527 @@ class Lambda
     }
 
     /**
-     * {@code Finder} classifies a specialized iterator over an array for finding elements within the array, using a {@link Comparator#compare(Object, Object)} method, and providing the position or the array element.
+     * {@code DoubleBinaryFinder} is an implementation of a primitive finder that searches a sorted {@code double} array in a binary search manner.
      * <p/>
-     * Finders are not concurrent objects.
-     * If the underlying array changes while the finder is iterating through the elements, the result can be undetermined.
-     *
-     * @param <T> the array type.
+     * The finder always finds the first of the equal elements within the search bounds, so iterating the finder enumerates all equal elements in order.
+     * If the item is not found, {@link #indexOf()} returns {@code -(insertion point) - 1}, in the same way as {@link java.util.Arrays#binarySearch(double[], double)}.
      *
-     * @see system.data.Finder
+     * @see PrimitiveFinder
      *
      * @since 1.8
      * @author Alireza Kamran
      */
-    public abstract static
-    class Finder<T>
-    extends Finding<T>
-    implements system.data.Finder<T>
+    public static
+    class DoubleBinaryFinder
+    extends PrimitiveFinder<Double>
     {
-        /** The next match index. */
+        /** The sorted array. */
+        protected final
+        double[] array;
+
+        /** The comparator. */
+        protected final
+        DoubleComparator comparator;
+
+        /** The array sort order. */
+        protected final
+        boolean ascending;
+
+        /** The item. */
         protected
-        int j;
+        double item;
 
         /**
-         * Creates a finder with the specified array and comparator.
-         * <p/>
-         * This constructor accepts null comparator with the promise that it will be set later on prior to locating an element.
+         * Creates a binary finder with the specified item and array sorted in natural order.
          *
-         * @param array the array.
-         * @param comparator the comparator.
+         * @param item the finder item.
+         * @param array the sorted array.
          *
          * @throws IllegalArgumentException if the array is null.
          */
-        public Finder(
-            final T[] array,
-            final Comparator<? super T> comparator
+        public
+        DoubleBinaryFinder(
+            final double item,
+            final double[] array
             ) {
-            super(array, comparator);
+            this(item, array, true, DoubleComparator.Natural);
         }
 
         /**
-         * Returns true if the next match exists; otherwise returns false.
+         * Creates a binary finder with the specified item, sorted array, and comparator.
+         * <p/>
+         * This constructor automatically sets the ascending flag by comparing the first and last array elements.
          *
-         * @return true if next match exists, or false otherwise.
+         * @param item the finder item.
+         * @param array the sorted array.
+         * @param comparator the comparator.
+         *
+         * @throws IllegalArgumentException if the array or comparator is null.
          */
-        protected abstract
-        boolean nextMatchExists();
+        public
+        DoubleBinaryFinder(
+            final double item,
+            final double[] array,
+            final DoubleComparator comparator
+            ) {
+            this(item, array, array == null || comparator == null || array.length < 2 || comparator.compare(array[0], array[array.length - 1]) <= 0, comparator);
+        }
 
         /**
-         * {@inheritDoc}
-         * <p/>
-         * This implementation calls {@link #found()} internally.
+         * Creates a binary finder with the specified item, sorted array, ascending flag, and comparator.
          *
-         * @return the found array element.
+         * @param item the finder item.
+         * @param array the sorted array.
+         * @param ascending the ascending flag.
+         * @param comparator the comparator.
          *
-         * @throws NoSuchElementException if the array element is not found or the iteration has no more elements.
+         * @throws IllegalArgumentException if the array or comparator is null.
          */
-        @Override
-        public T element() {
-            found();
-            return array[i];
+        public
+        DoubleBinaryFinder(
+            final double item,
+            final double[] array,
+            final boolean ascending,
+            final DoubleComparator comparator
+            ) {
+            if (array == null || comparator == null)
+                throw new IllegalArgumentException();
+
+            this.array = array;
+            this.comparator = comparator;
+            this.ascending = ascending;
+            this.item = item;
+            end = array.length;
+            reset();
         }
 
         /**
          * {@inheritDoc}
-         * <p/>
-         * This implementation calls {@link #found()} internally.
          *
-         * @param fallback the fallback.
+         * @param from the search start index.
          *
-         * @return the found array element or the fallback.
+         * @return the first match index, or {@code -(insertion point) - 1}.
          */
         @Override
-        public T element(final T fallback) {
-            try {
-                return element();
-            }
-            catch (NoSuchElementException e) {
-                return fallback;
+        protected
+        int search(
+            final int from
+            ) {
+            int lo = from;
+            int hi = end;
+            while (lo < hi) {
+                final int mid = (lo + hi) >>> 1;
+                final int result = ascending
+                                   ? comparator.compare(array[mid], item)
+                                   : comparator.compare(item, array[mid]);
+                if (result < 0)
+                    lo = mid + 1;
+                else
+                    hi = mid;
             }
+
+            return lo < end && comparator.compare(array[lo], item) == 0
+                   ? lo
+                   : -lo - 1;
         }
 
-        /**
-         * {@inheritDoc}
-         *
-         * @return true if the finder element is found, and false otherwise.
-         */
         @Override
-        public Finder<T> found() {
-            if (array == null || comparator == null)
-                return this;
-
-            if (hasNext())
-                next();
-            else
-                throw new NoSuchElementException();
+        protected
+        Double box(
+            final int index
+            ) {
+            return array[index];
+        }
 
+        @Override
+        protected
+        int length() {
+            return array.length;
+        }
 
-            return this;
+        @Override
+        protected
+        IntPredicate matcher() {
+            final double item = this.item;
+            return (final int k) -> comparator.compare(array[k], item) == 0;
         }
 
         /**
-         * Returns true if there are more elements in the iteration; otherwise returns false.
-         * <p/>
-         * This implementation calls {@link #nextMatchExists()} internally after verifying boundaries.
+         * Returns the finder item.
          *
-         * @return true if there are more elements in the iteration, and false otherwise.
+         * @return the item.
          */
-        @Override
-        public boolean hasNext() {
-            return start < end && i >= start && i < end && nextMatchExists();
+        public
+        double getItem() {
+            return item;
         }
 
         /**
-         * {@inheritDoc}
-         * <p/>
-         * This implementation calls {@link #found()} internally.
-         *
-         * @return the found array element index.
+         * Sets the finder item and resets the iteration.
          *
-         * @throws NoSuchElementException if the array element is not found or the iteration has no more elements.
+         * @param item the item.
          */
-        @Override
-        public Integer index() {
-            found();
-            return i;
+        public
+        void setItem(
+            final double item
+            ) {
+            this.item = item;
+            reset();
         }
+    }
+
+    /**
+     * {@code DoubleComparator} is a comparison function over primitive double values, which avoids boxing the compared values.
+     *
+     * @since 1.8
+     * @author Alireza Kamran
+     */
+    @FunctionalInterface
+    public
+    interface DoubleComparator
+    {
+        /** The natural order comparator. */
+        public static final
+        DoubleComparator Natural = Double::compare;
 
         /**
-         * {@inheritDoc}
-         * <p/>
-         * This implementation calls {@link #found()} internally.
+         * Compares the two values and returns a negative integer, zero, or a positive integer as the first value is less than, equal to, or greater than the second value.
+         *
+         * @param a the first value.
+         * @param b the second value.
+         *
+         * @return the comparison result.
+         */
+        int compare(
+            double a,
+            double b
+            );
+    }
+
+    /**
+     * {@code DoubleSequentialFinder} is an implementation of a primitive finder that iterates forward over a {@code double} array, one element at a time.
+     * If the item is not found, {@link #indexOf()} returns {@link PrimitiveFinder#NotFound}.
+     *
+     * @see PrimitiveFinder
+     *
+     * @since 1.8
+     * @author Alireza Kamran
+     */
+    public static
+    class DoubleSequentialFinder
+    extends PrimitiveFinder<Double>
+    {
+        /** The array. */
+        protected final
+        double[] array;
+
+        /** The comparator. */
+        protected final
+        DoubleComparator comparator;
+
+        /** The item. */
+        protected
+        double item;
+
+        /**
+         * Creates a sequential finder with the specified item and array, using the natural order.
+         *
+         * @param item the finder item.
+         * @param array the array.
+         *
+         * @throws IllegalArgumentException if the array is null.
+         */
+        public
+        DoubleSequentialFinder(
+            final double item,
+            final double[] array
+            ) {
+            this(item, array, DoubleComparator.Natural);
+        }
+
+        /**
+         * Creates a sequential finder with the specified item, array, and comparator.
+         *
+         * @param item the finder item.
+         * @param array the array.
+         * @param comparator the comparator.
+         *
+         * @throws IllegalArgumentException if the array or comparator is null.
+         */
+        public
+        DoubleSequentialFinder(
+            final double item,
+            final double[] array,
+            final DoubleComparator comparator
+            ) {
+            if (array == null || comparator == null)
+                throw new IllegalArgumentException();
+
+            this.array = array;
+            this.comparator = comparator;
+            this.item = item;
+            end = array.length;
+            reset();
+        }
+
+        /**
+         * {@inheritDoc}
+         *
+         * @param from the search start index.
+         *
+         * @return the first match index, or {@link PrimitiveFinder#NotFound}.
+         */
+        @Override
+        protected
+        int search(
+            final int from
+            ) {
+            for (int k = from; k < end; k++)
+                if (comparator.compare(item, array[k]) == 0)
+                    return k;
+
+            return NotFound;
+        }
+
+        @Override
+        protected
+        Double box(
+            final int index
+            ) {
+            return array[index];
+        }
+
+        @Override
+        protected
+        int length() {
+            return array.length;
+        }
+
+        @Override
+        protected
+        IntPredicate matcher() {
+            final double item = this.item;
+            return (final int k) -> comparator.compare(item, array[k]) == 0;
+        }
+
+        /**
+         * Returns the finder item.
+         *
+         * @return the item.
+         */
+        public
+        double getItem() {
+            return item;
+        }
+
+        /**
+         * Sets the finder item and resets the iteration.
+         *
+         * @param item the item.
+         */
+        public
+        void setItem(
+            final double item
+            ) {
+            this.item = item;
+            reset();
+        }
+    }
+
+    /**
+     * {@code ElementSpliterator} is a spliterator over the array elements at the indices supplied by an index spliterator.
+     *
+     * @param <T> the element type.
+     *
+     * @since 1.8
+     * @author Alireza Kamran
+     */
+    private static final
+    class ElementSpliterator<T>
+    implements Spliterator<T>
+    {
+        /** The index spliterator. */
+        private final
+        Spliterator.OfInt indices;
+
+        /** The element function. */
+        private final
+        IntFunction<T> element;
+
+        /**
+         * Creates an element spliterator with the specified index spliterator and element function.
+         *
+         * @param indices the index spliterator.
+         * @param element the element function.
+         */
+        ElementSpliterator(
+            final Spliterator.OfInt indices,
+            final IntFunction<T> element
+            ) {
+            this.indices = indices;
+            this.element = element;
+        }
+
+        @Override
+        public boolean tryAdvance(final Consumer<? super T> action) {
+            return indices.tryAdvance((final int k) -> action.accept(element.apply(k)));
+        }
+
+        @Override
+        public void forEachRemaining(final Consumer<? super T> action) {
+            indices.forEachRemaining((final int k) -> action.accept(element.apply(k)));
+        }
+
+        @Override
+        public Spliterator<T> trySplit() {
+            final Spliterator.OfInt prefix = indices.trySplit();
+            return prefix == null
+                   ? null
+                   : new ElementSpliterator<>(prefix, element);
+        }
+
+        @Override
+        public long estimateSize() {
+            return indices.estimateSize();
+        }
+
+        @Override
+        public int characteristics() {
+            return ORDERED | IMMUTABLE;
+        }
+    }
+
+    /**
+     * {@code Finder} classifies a specialized iterator over an array for finding elements within the array, using a {@link Comparator#compare(Object, Object)} method, and providing the position or the array element.
+     * <p/>
+     * Finders are not concurrent objects.
+     * If the underlying array changes while the finder is iterating through the elements, the result can be undetermined.
+     *
+     * @param <T> the array type.
+     *
+     * @see system.data.Finder
+     *
+     * @since 1.8
+     * @author Alireza Kamran
+     */
+    public abstract static
+    class Finder<T>
+    extends Finding<T>
+    implements system.data.Finder<T>
+    {
+        /** The next match index. */
+        protected
+        int j;
+
+        /**
+         * Creates a finder with the specified array and comparator.
+         * <p/>
+         * This constructor accepts null comparator with the promise that it will be set later on prior to locating an element.
+         *
+         * @param array the array.
+         * @param comparator the comparator.
+         *
+         * @throws IllegalArgumentException if the array is null.
+         */
+        public Finder(
+            final T[] array,
+            final Comparator<? super T> comparator
+            ) {
+            super(array, comparator);
+        }
+
+        /**
+         * Returns true if the next match exists; otherwise returns false.
+         *
+         * @return true if next match exists, or false otherwise.
+         */
+        protected abstract
+        boolean nextMatchExists();
+
+        /**
+         * {@inheritDoc}
+         * <p/>
+         * This implementation calls {@link #found()} internally.
+         *
+         * @return the found array element.
+         *
+         * @throws NoSuchElementException if the array element is not found or the iteration has no more elements.
+         */
+        @Override
+        public T element() {
+            found();
+            return array[i];
+        }
+
+        /**
+         * {@inheritDoc}
+         * <p/>
+         * This implementation calls {@link #found()} internally.
+         *
+         * @param fallback the fallback.
+         *
+         * @return the found array element or the fallback.
+         */
+        @Override
+        public T element(final T fallback) {
+            try {
+                return element();
+            }
+            catch (NoSuchElementException e) {
+                return fallback;
+            }
+        }
+
+        /**
+         * {@inheritDoc}
+         *
+         * @return true if the finder element is found, and false otherwise.
+         */
+        @Override
+        public Finder<T> found() {
+            if (array == null || comparator == null)
+                return this;
+
+            if (hasNext())
+                next();
+            else
+                throw new NoSuchElementException();
+
+
+            return this;
+        }
+
+        /**
+         * Returns true if there are more elements in the iteration; otherwise returns false.
+         * <p/>
+         * This implementation calls {@link #nextMatchExists()} internally after verifying boundaries.
+         *
+         * @return true if there are more elements in the iteration, and false otherwise.
+         */
+        @Override
+        public boolean hasNext() {
+            return start < end && i >= start && i < end && nextMatchExists();
+        }
+
+        /**
+         * {@inheritDoc}
+         * <p/>
+         * This implementation calls {@link #found()} internally.
+         *
+         * @return the found array element index.
+         *
+         * @throws NoSuchElementException if the array element is not found or the iteration has no more elements.
+         */
+        @Override
+        public Integer index() {
+            found();
+            return i;
+        }
+
+        /**
+         * {@inheritDoc}
+         * <p/>
+         * This implementation calls {@link #found()} internally.
          *
          * @param fallback the fallback.
          *
@@ -1956,171 +2970,1717 @@ class Lambda
                 throw new IllegalArgumentException();
         }
 
-        /**
-         * Validates the iteration end index and resets it to the array length if it is greater than that value.
-         */
+        /**
+         * Validates the iteration end index and resets it to the array length if it is greater than that value.
+         */
+        protected
+        void validateEndIndex() {
+            if (getEndIndex() > array.length)
+                setEndIndex(array.length);
+        }
+
+        /**
+         * Validates the iteration start index and resets it to zero if it is negative.
+         */
+        protected
+        void validateStartIndex() {
+            if (getStartIndex() < 0)
+                setStartIndex(0);
+        }
+
+        /**
+         * Returns the comparator.
+         *
+         * @return the comparator.
+         */
+        public
+        Comparator<? super T> getComparator() {
+            return comparator;
+        }
+
+        /**
+         * Returns the iteration end index.
+         *
+         * @return the iteration end index.
+         */
+        public int getEndIndex() {
+            return end;
+        }
+
+        /**
+         * Returns the iteration index.
+         *
+         * @return the iteration index.
+         */
+        public int getIndex() {
+            return i;
+        }
+
+        /**
+         * Returns the finding type item.
+         *
+         * @return the item.
+         */
+        public T getItem() {
+            return item;
+        }
+
+        /**
+         * Returns the iteration start index.
+         *
+         * @return the iteration start index.
+         */
+        public int getStartIndex() {
+            return start;
+        }
+
+        /**
+         * Sets and validates the comparator.
+         * <p/>
+         * This implementation calls {@link #validateComparator()} internally.
+         *
+         * @param comparator the comparator.
+         */
+        public
+        void setComparator(
+            Comparator<? super T> comparator
+            ) {
+            this.comparator = comparator;
+            validateComparator();
+        }
+
+        /**
+         * Sets the iteration end index. (exclusive)
+         * <p/>
+         * This implementation calls {@link #validateEndIndex()} internally.
+         *
+         * @param end the iteration end index.
+         */
+        public void setEndIndex(final int end) {
+            this.end = end;
+            validateEndIndex();
+        }
+
+        /**
+         * Sets the finding type item.
+         *
+         * @param item the item.
+         */
+        public void setItem(
+            final T item
+            ) {
+            this.item = item;
+        }
+
+        /**
+         * Sets the iteration start index. (inclusive)
+         * <p/>
+         * This implementation calls {@link #validateStartIndex()} internally.
+         *
+         * @param start the iteration start index.
+         */
+        public void setStartIndex(final int start) {
+            this.start = start;
+            validateStartIndex();
+        }
+
+        /**
+         * Sets the iteration index.
+         *
+         * @param index the iteration index.
+         */
+        public abstract
+        void setIndex(int index);
+
+        /**
+         * Returns a spliterator over the indices of the array elements that match the item, within the iteration bounds.
+         * <p/>
+         * The spliterator captures the item, comparator, and bounds when it is created, and does not change the iteration of this finding type.
+         * It splits the index range in halves, and can be traversed in parallel as long as the array is not changed.
+         *
+         * @return the index spliterator.
+         *
+         * @throws IllegalArgumentException if the comparator is null.
+         */
+        public
+        Spliterator.OfInt indexSpliterator() {
+            return indexSpliterator(1);
+        }
+
+        /**
+         * Returns a spliterator over the indices of the array elements that match the item, visiting the indices within the iteration bounds with the specified step.
+         * <p/>
+         * Positive steps visit the indices from the start index upward, and negative steps visit them from the index before the end index downward; so matches are reported in the order a finding type with the same step finds them.
+         *
+         * @param step the iteration step.
+         *
+         * @return the index spliterator.
+         *
+         * @throws IllegalArgumentException if the comparator is null, or the step is zero.
+         */
+        protected
+        Spliterator.OfInt indexSpliterator(
+            final int step
+            ) {
+            validateComparator();
+            final T item = this.item;
+            final Comparator<? super T> comparator = this.comparator;
+            return new IndexSpliterator(start, end, step, (final int k) -> comparator.compare(item, array[k]) == 0);
+        }
+
+        /**
+         * Returns a spliterator over the array elements that match the item, within the iteration bounds.
+         *
+         * @return the element spliterator.
+         *
+         * @throws IllegalArgumentException if the comparator is null.
+         *
+         * @see #indexSpliterator()
+         */
+        public
+        Spliterator<T> spliterator() {
+            return new ElementSpliterator<>(indexSpliterator(), (final int k) -> array[k]);
+        }
+
+        /**
+         * Returns a sequential or parallel stream of the array elements that match the item, within the iteration bounds.
+         *
+         * @param parallel the flag indicating if the stream should be parallel.
+         *
+         * @return the stream of matching elements.
+         *
+         * @throws IllegalArgumentException if the comparator is null.
+         *
+         * @see #spliterator()
+         */
+        public
+        Stream<T> stream(
+            final boolean parallel
+            ) {
+            return StreamSupport.stream(spliterator(), parallel);
+        }
+    }
+
+    /**
+     * {@code FloatBinaryFinder} is an implementation of a primitive finder that searches a sorted {@code float} array in a binary search manner.
+     * <p/>
+     * The finder always finds the first of the equal elements within the search bounds, so iterating the finder enumerates all equal elements in order.
+     * If the item is not found, {@link #indexOf()} returns {@code -(insertion point) - 1}, in the same way as {@link java.util.Arrays#binarySearch(float[], float)}.
+     *
+     * @see PrimitiveFinder
+     *
+     * @since 1.8
+     * @author Alireza Kamran
+     */
+    public static
+    class FloatBinaryFinder
+    extends PrimitiveFinder<Float>
+    {
+        /** The sorted array. */
+        protected final
+        float[] array;
+
+        /** The comparator. */
+        protected final
+        FloatComparator comparator;
+
+        /** The array sort order. */
+        protected final
+        boolean ascending;
+
+        /** The item. */
+        protected
+        float item;
+
+        /**
+         * Creates a binary finder with the specified item and array sorted in natural order.
+         *
+         * @param item the finder item.
+         * @param array the sorted array.
+         *
+         * @throws IllegalArgumentException if the array is null.
+         */
+        public
+        FloatBinaryFinder(
+            final float item,
+            final float[] array
+            ) {
+            this(item, array, true, FloatComparator.Natural);
+        }
+
+        /**
+         * Creates a binary finder with the specified item, sorted array, and comparator.
+         * <p/>
+         * This constructor automatically sets the ascending flag by comparing the first and last array elements.
+         *
+         * @param item the finder item.
+         * @param array the sorted array.
+         * @param comparator the comparator.
+         *
+         * @throws IllegalArgumentException if the array or comparator is null.
+         */
+        public
+        FloatBinaryFinder(
+            final float item,
+            final float[] array,
+            final FloatComparator comparator
+            ) {
+            this(item, array, array == null || comparator == null || array.length < 2 || comparator.compare(array[0], array[array.length - 1]) <= 0, comparator);
+        }
+
+        /**
+         * Creates a binary finder with the specified item, sorted array, ascending flag, and comparator.
+         *
+         * @param item the finder item.
+         * @param array the sorted array.
+         * @param ascending the ascending flag.
+         * @param comparator the comparator.
+         *
+         * @throws IllegalArgumentException if the array or comparator is null.
+         */
+        public
+        FloatBinaryFinder(
+            final float item,
+            final float[] array,
+            final boolean ascending,
+            final FloatComparator comparator
+            ) {
+            if (array == null || comparator == null)
+                throw new IllegalArgumentException();
+
+            this.array = array;
+            this.comparator = comparator;
+            this.ascending = ascending;
+            this.item = item;
+            end = array.length;
+            reset();
+        }
+
+        /**
+         * {@inheritDoc}
+         *
+         * @param from the search start index.
+         *
+         * @return the first match index, or {@code -(insertion point) - 1}.
+         */
+        @Override
+        protected
+        int search(
+            final int from
+            ) {
+            int lo = from;
+            int hi = end;
+            while (lo < hi) {
+                final int mid = (lo + hi) >>> 1;
+                final int result = ascending
+                                   ? comparator.compare(array[mid], item)
+                                   : comparator.compare(item, array[mid]);
+                if (result < 0)
+                    lo = mid + 1;
+                else
+                    hi = mid;
+            }
+
+            return lo < end && comparator.compare(array[lo], item) == 0
+                   ? lo
+                   : -lo - 1;
+        }
+
+        @Override
+        protected
+        Float box(
+            final int index
+            ) {
+            return array[index];
+        }
+
+        @Override
+        protected
+        int length() {
+            return array.length;
+        }
+
+        @Override
+        protected
+        IntPredicate matcher() {
+            final float item = this.item;
+            return (final int k) -> comparator.compare(array[k], item) == 0;
+        }
+
+        /**
+         * Returns the finder item.
+         *
+         * @return the item.
+         */
+        public
+        float getItem() {
+            return item;
+        }
+
+        /**
+         * Sets the finder item and resets the iteration.
+         *
+         * @param item the item.
+         */
+        public
+        void setItem(
+            final float item
+            ) {
+            this.item = item;
+            reset();
+        }
+    }
+
+    /**
+     * {@code FloatComparator} is a comparison function over primitive float values, which avoids boxing the compared values.
+     *
+     * @since 1.8
+     * @author Alireza Kamran
+     */
+    @FunctionalInterface
+    public
+    interface FloatComparator
+    {
+        /** The natural order comparator. */
+        public static final
+        FloatComparator Natural = Float::compare;
+
+        /**
+         * Compares the two values and returns a negative integer, zero, or a positive integer as the first value is less than, equal to, or greater than the second value.
+         *
+         * @param a the first value.
+         * @param b the second value.
+         *
+         * @return the comparison result.
+         */
+        int compare(
+            float a,
+            float b
+            );
+    }
+
+    /**
+     * {@code FloatSequentialFinder} is an implementation of a primitive finder that iterates forward over a {@code float} array, one element at a time.
+     * If the item is not found, {@link #indexOf()} returns {@link PrimitiveFinder#NotFound}.
+     *
+     * @see PrimitiveFinder
+     *
+     * @since 1.8
+     * @author Alireza Kamran
+     */
+    public static
+    class FloatSequentialFinder
+    extends PrimitiveFinder<Float>
+    {
+        /** The array. */
+        protected final
+        float[] array;
+
+        /** The comparator. */
+        protected final
+        FloatComparator comparator;
+
+        /** The item. */
+        protected
+        float item;
+
+        /**
+         * Creates a sequential finder with the specified item and array, using the natural order.
+         *
+         * @param item the finder item.
+         * @param array the array.
+         *
+         * @throws IllegalArgumentException if the array is null.
+         */
+        public
+        FloatSequentialFinder(
+            final float item,
+            final float[] array
+            ) {
+            this(item, array, FloatComparator.Natural);
+        }
+
+        /**
+         * Creates a sequential finder with the specified item, array, and comparator.
+         *
+         * @param item the finder item.
+         * @param array the array.
+         * @param comparator the comparator.
+         *
+         * @throws IllegalArgumentException if the array or comparator is null.
+         */
+        public
+        FloatSequentialFinder(
+            final float item,
+            final float[] array,
+            final FloatComparator comparator
+            ) {
+            if (array == null || comparator == null)
+                throw new IllegalArgumentException();
+
+            this.array = array;
+            this.comparator = comparator;
+            this.item = item;
+            end = array.length;
+            reset();
+        }
+
+        /**
+         * {@inheritDoc}
+         *
+         * @param from the search start index.
+         *
+         * @return the first match index, or {@link PrimitiveFinder#NotFound}.
+         */
+        @Override
+        protected
+        int search(
+            final int from
+            ) {
+            for (int k = from; k < end; k++)
+                if (comparator.compare(item, array[k]) == 0)
+                    return k;
+
+            return NotFound;
+        }
+
+        @Override
+        protected
+        Float box(
+            final int index
+            ) {
+            return array[index];
+        }
+
+        @Override
+        protected
+        int length() {
+            return array.length;
+        }
+
+        @Override
+        protected
+        IntPredicate matcher() {
+            final float item = this.item;
+            return (final int k) -> comparator.compare(item, array[k]) == 0;
+        }
+
+        /**
+         * Returns the finder item.
+         *
+         * @return the item.
+         */
+        public
+        float getItem() {
+            return item;
+        }
+
+        /**
+         * Sets the finder item and resets the iteration.
+         *
+         * @param item the item.
+         */
+        public
+        void setItem(
+            final float item
+            ) {
+            this.item = item;
+            reset();
+        }
+    }
+
+    /**
+     * {@code IndexComparator} compares two elements identified by their indices, which lets sorted joins share one implementation across object and primitive arrays.
+     *
+     * @since 1.8
+     * @author Alireza Kamran
+     */
+    @FunctionalInterface
+    private
+    interface IndexComparator
+    {
+        /**
+         * Compares the elements at the specified indices.
+         *
+         * @param a the first index.
+         * @param b the second index.
+         *
+         * @return the comparison result.
+         */
+        int compare(
+            int a,
+            int b
+            );
+    }
+
+    /**
+     * {@code IndexSpliterator} is a spliterator over the indices of an array range that satisfy a match predicate.
+     * <p/>
+     * The indices are visited with a step, upward from the range start for positive steps and downward from the range end for negative steps.
+     * The visited indices are split in halves, so that large arrays can be searched by parallel streams; and matches are reported in visiting order, so that ordered short-circuiting operations, such as {@link java.util.stream.Stream#findFirst()}, return the first match.
+     *
+     * @since 1.8
+     * @author Alireza Kamran
+     */
+    private static final
+    class IndexSpliterator
+    implements Spliterator.OfInt
+    {
+        /** The minimum range size that is split. */
+        private static final
+        int MinSplit = 1 << 10;
+
+        /** The match predicate. */
+        private final
+        IntPredicate match;
+
+        /** The iteration step. */
+        private final
+        int step;
+
+        /** The next index. */
+        private
+        int i;
+
+        /** The number of remaining indices. */
+        private
+        int count;
+
+        /**
+         * Creates an index spliterator with the specified range and match predicate, visiting every index upward.
+         *
+         * @param start the range start index. (inclusive)
+         * @param end the range end index. (exclusive)
+         * @param match the match predicate.
+         */
+        IndexSpliterator(
+            final int start,
+            final int end,
+            final IntPredicate match
+            ) {
+            this(start, end, 1, match);
+        }
+
+        /**
+         * Creates an index spliterator with the specified range, step, and match predicate.
+         *
+         * @param start the range start index. (inclusive)
+         * @param end the range end index. (exclusive)
+         * @param step the iteration step.
+         * @param match the match predicate.
+         *
+         * @throws IllegalArgumentException if the step is zero.
+         */
+        IndexSpliterator(
+            final int start,
+            final int end,
+            final int step,
+            final IntPredicate match
+            ) {
+            if (step == 0)
+                throw new IllegalArgumentException();
+
+            final long span = Math.max(0L, (long) end - start);
+            final long stride = Math.abs((long) step);
+            this.step = step;
+            this.match = match;
+            i = step > 0
+                ? start
+                : end - 1;
+            count = (int) ((span + stride - 1) / stride);
+        }
+
+        @Override
+        public boolean tryAdvance(final IntConsumer action) {
+            while (count > 0) {
+                final int k = i;
+                i += step;
+                count--;
+                if (match.test(k)) {
+                    action.accept(k);
+                    return true;
+                }
+            }
+
+            return false;
+        }
+
+        @Override
+        public void forEachRemaining(final IntConsumer action) {
+            for (; count > 0; count--, i += step)
+                if (match.test(i))
+                    action.accept(i);
+        }
+
+        @Override
+        public Spliterator.OfInt trySplit() {
+            if (count < MinSplit)
+                return null;
+
+            final int half = count >>> 1;
+            final IndexSpliterator prefix = new IndexSpliterator(0, 0, step, match);
+            prefix.i = i;
+            prefix.count = half;
+            i += half * step;
+            count -= half;
+            return prefix;
+        }
+
+        @Override
+        public long estimateSize() {
+            return count;
+        }
+
+        @Override
+        public int characteristics() {
+            return ORDERED | DISTINCT | NONNULL | IMMUTABLE;
+        }
+    }
+
+    /**
+     * {@code IntBinaryFinder} is an implementation of a primitive finder that searches a sorted {@code int} array in a binary search manner.
+     * <p/>
+     * The finder always finds the first of the equal elements within the search bounds, so iterating the finder enumerates all equal elements in order.
+     * If the item is not found, {@link #indexOf()} returns {@code -(insertion point) - 1}, in the same way as {@link java.util.Arrays#binarySearch(int[], int)}.
+     *
+     * @see PrimitiveFinder
+     *
+     * @since 1.8
+     * @author Alireza Kamran
+     */
+    public static
+    class IntBinaryFinder
+    extends PrimitiveFinder<Integer>
+    {
+        /** The sorted array. */
+        protected final
+        int[] array;
+
+        /** The comparator. */
+        protected final
+        IntComparator comparator;
+
+        /** The array sort order. */
+        protected final
+        boolean ascending;
+
+        /** The item. */
+        protected
+        int item;
+
+        /**
+         * Creates a binary finder with the specified item and array sorted in natural order.
+         *
+         * @param item the finder item.
+         * @param array the sorted array.
+         *
+         * @throws IllegalArgumentException if the array is null.
+         */
+        public
+        IntBinaryFinder(
+            final int item,
+            final int[] array
+            ) {
+            this(item, array, true, IntComparator.Natural);
+        }
+
+        /**
+         * Creates a binary finder with the specified item, sorted array, and comparator.
+         * <p/>
+         * This constructor automatically sets the ascending flag by comparing the first and last array elements.
+         *
+         * @param item the finder item.
+         * @param array the sorted array.
+         * @param comparator the comparator.
+         *
+         * @throws IllegalArgumentException if the array or comparator is null.
+         */
+        public
+        IntBinaryFinder(
+            final int item,
+            final int[] array,
+            final IntComparator comparator
+            ) {
+            this(item, array, array == null || comparator == null || array.length < 2 || comparator.compare(array[0], array[array.length - 1]) <= 0, comparator);
+        }
+
+        /**
+         * Creates a binary finder with the specified item, sorted array, ascending flag, and comparator.
+         *
+         * @param item the finder item.
+         * @param array the sorted array.
+         * @param ascending the ascending flag.
+         * @param comparator the comparator.
+         *
+         * @throws IllegalArgumentException if the array or comparator is null.
+         */
+        public
+        IntBinaryFinder(
+            final int item,
+            final int[] array,
+            final boolean ascending,
+            final IntComparator comparator
+            ) {
+            if (array == null || comparator == null)
+                throw new IllegalArgumentException();
+
+            this.array = array;
+            this.comparator = comparator;
+            this.ascending = ascending;
+            this.item = item;
+            end = array.length;
+            reset();
+        }
+
+        /**
+         * {@inheritDoc}
+         *
+         * @param from the search start index.
+         *
+         * @return the first match index, or {@code -(insertion point) - 1}.
+         */
+        @Override
+        protected
+        int search(
+            final int from
+            ) {
+            int lo = from;
+            int hi = end;
+            while (lo < hi) {
+                final int mid = (lo + hi) >>> 1;
+                final int result = ascending
+                                   ? comparator.compare(array[mid], item)
+                                   : comparator.compare(item, array[mid]);
+                if (result < 0)
+                    lo = mid + 1;
+                else
+                    hi = mid;
+            }
+
+            return lo < end && comparator.compare(array[lo], item) == 0
+                   ? lo
+                   : -lo - 1;
+        }
+
+        @Override
+        protected
+        Integer box(
+            final int index
+            ) {
+            return array[index];
+        }
+
+        @Override
+        protected
+        int length() {
+            return array.length;
+        }
+
+        @Override
+        protected
+        IntPredicate matcher() {
+            final int item = this.item;
+            return (final int k) -> comparator.compare(array[k], item) == 0;
+        }
+
+        /**
+         * Returns the finder item.
+         *
+         * @return the item.
+         */
+        public
+        int getItem() {
+            return item;
+        }
+
+        /**
+         * Sets the finder item and resets the iteration.
+         *
+         * @param item the item.
+         */
+        public
+        void setItem(
+            final int item
+            ) {
+            this.item = item;
+            reset();
+        }
+    }
+
+    /**
+     * {@code IntComparator} is a comparison function over primitive int values, which avoids boxing the compared values.
+     *
+     * @since 1.8
+     * @author Alireza Kamran
+     */
+    @FunctionalInterface
+    public
+    interface IntComparator
+    {
+        /** The natural order comparator. */
+        public static final
+        IntComparator Natural = Integer::compare;
+
+        /**
+         * Compares the two values and returns a negative integer, zero, or a positive integer as the first value is less than, equal to, or greater than the second value.
+         *
+         * @param a the first value.
+         * @param b the second value.
+         *
+         * @return the comparison result.
+         */
+        int compare(
+            int a,
+            int b
+            );
+    }
+
+    /**
+     * {@code IntSequentialFinder} is an implementation of a primitive finder that iterates forward over a {@code int} array, one element at a time.
+     * If the item is not found, {@link #indexOf()} returns {@link PrimitiveFinder#NotFound}.
+     *
+     * @see PrimitiveFinder
+     *
+     * @since 1.8
+     * @author Alireza Kamran
+     */
+    public static
+    class IntSequentialFinder
+    extends PrimitiveFinder<Integer>
+    {
+        /** The array. */
+        protected final
+        int[] array;
+
+        /** The comparator. */
+        protected final
+        IntComparator comparator;
+
+        /** The item. */
+        protected
+        int item;
+
+        /**
+         * Creates a sequential finder with the specified item and array, using the natural order.
+         *
+         * @param item the finder item.
+         * @param array the array.
+         *
+         * @throws IllegalArgumentException if the array is null.
+         */
+        public
+        IntSequentialFinder(
+            final int item,
+            final int[] array
+            ) {
+            this(item, array, IntComparator.Natural);
+        }
+
+        /**
+         * Creates a sequential finder with the specified item, array, and comparator.
+         *
+         * @param item the finder item.
+         * @param array the array.
+         * @param comparator the comparator.
+         *
+         * @throws IllegalArgumentException if the array or comparator is null.
+         */
+        public
+        IntSequentialFinder(
+            final int item,
+            final int[] array,
+            final IntComparator comparator
+            ) {
+            if (array == null || comparator == null)
+                throw new IllegalArgumentException();
+
+            this.array = array;
+            this.comparator = comparator;
+            this.item = item;
+            end = array.length;
+            reset();
+        }
+
+        /**
+         * {@inheritDoc}
+         *
+         * @param from the search start index.
+         *
+         * @return the first match index, or {@link PrimitiveFinder#NotFound}.
+         */
+        @Override
+        protected
+        int search(
+            final int from
+            ) {
+            for (int k = from; k < end; k++)
+                if (comparator.compare(item, array[k]) == 0)
+                    return k;
+
+            return NotFound;
+        }
+
+        @Override
+        protected
+        Integer box(
+            final int index
+            ) {
+            return array[index];
+        }
+
+        @Override
+        protected
+        int length() {
+            return array.length;
+        }
+
+        @Override
+        protected
+        IntPredicate matcher() {
+            final int item = this.item;
+            return (final int k) -> comparator.compare(item, array[k]) == 0;
+        }
+
+        /**
+         * Returns the finder item.
+         *
+         * @return the item.
+         */
+        public
+        int getItem() {
+            return item;
+        }
+
+        /**
+         * Sets the finder item and resets the iteration.
+         *
+         * @param item the item.
+         */
+        public
+        void setItem(
+            final int item
+            ) {
+            this.item = item;
+            reset();
+        }
+    }
+
+    /**
+     * {@code Locator} classifies a specialized iterator over an array for locating elements within the array, using a {@link Comparator#compare(Object, Object)} method, and providing the position or the array element.
+     * <p/>
+     * Locators are not concurrent objects.
+     * If the underlying array changes while the locator is iterating through the elements, the result can be undetermined.
+     *
+     * @param <T> the array type.
+     *
+     * @see system.data.Locator
+     *
+     * @since 1.8
+     * @author Alireza Kamran
+     */
+    public abstract static
+    class Locator<T>
+    extends Finding<T>
+    implements system.data.Locator<T>
+    {
+        /** The "location found" flag. */
+        protected
+        boolean found;
+
+        /** The "next element exists" flag. */
+        protected
+        boolean hasNext;
+
+        /**
+         * Creates a locator with the specified array and comparator.
+         * <p/>
+         * This constructor accepts null comparator with the promise that it will be set later on prior to locating an element.
+         *
+         * @param array the array.
+         * @param comparator the comparator.
+         *
+         * @throws IllegalArgumentException if the array is null.
+         */
+        public
+        Locator(
+            final T[] array,
+            final Comparator<? super T> comparator
+            ) {
+            super(array, comparator);
+            found = false;
+        }
+
+        /**
+         * {@inheritDoc}
+         * <p/>
+         * This implementation calls {@link #found()} internally.
+         *
+         * @return the located array element.
+         *
+         * @throws NoSuchElementException if the array element is not located or the iteration has no more elements.
+         */
+        @Override
+        public T element() {
+            found();
+            if (found)
+                return array[i];
+
+            throw new NoSuchElementException();
+        }
+
+        /**
+         * {@inheritDoc}
+         * <p/>
+         * This implementation calls {@link #found()} internally.
+         *
+         * @param fallback the fallback.
+         *
+         * @return the located array element or the fallback.
+         */
+        @Override
+        public T element(final T fallback) {
+            found();
+            return found ? array[i] : fallback;
+        }
+
+        /**
+         * {@inheritDoc}
+         *
+         * @return true if the locator element is found, and false otherwise.
+         */
+        @Override
+        public boolean elementFound() {
+            return found;
+        }
+
+        /**
+         * {@inheritDoc}
+         * <p/>
+         * If the array or the comparator is null, the locator is returned immediately.
+         *
+         * @return the advanced locator.
+         */
+        @Override
+        public Locator<T> found() {
+            if (array == null || comparator == null)
+                return this;
+
+            while (hasNext() && !next());
+            return this;
+        }
+
+        /**
+         * Returns true if there are more elements in the iteration; otherwise returns false.
+         * <p/>
+         * This implementation calls {@link #updateHasNext()} internally.
+         *
+         * @return true if there are more elements in the iteration, and false otherwise.
+         */
+        @Override
+        public boolean hasNext() {
+            updateHasNext();
+            return hasNext;
+        }
+
+        /**
+         * {@inheritDoc}
+         * <p/>
+         * This implementation calls {@link #found()} internally.
+         *
+         * @return the located array element index.
+         *
+         * @throws NoSuchElementException if the array element is not located or the iteration has no more elements.
+         */
+        @Override
+        public Integer index() {
+            found();
+            if (found)
+                return i;
+
+            throw new NoSuchElementException();
+        }
+
+        /**
+         * {@inheritDoc}
+         * <p/>
+         * This implementation calls {@link #found()} internally.
+         *
+         * @param fallback the fallback.
+         *
+         * @return the located array element index or the fallback.
+         */
+        @Override
+        public Integer index(final Integer fallback) {
+            found();
+            return found ? i : fallback;
+        }
+
+        /**
+         * Returns true if the array element matching the item is found at the next location; otherwise returns false.
+         *
+         * @return true if the array element is found, and false otherwise.
+         */
+        @Override
+        public abstract Boolean next();
+
+        /**
+         * Updates the internal {@code hasNext} flag indicating if there are more elements in the iteration.
+         */
+        protected abstract
+        void updateHasNext();
+
+        /**
+         * Sets the iteration end index. (exclusive)
+         * <p/>
+         * This implementation calls {@link #validateEndIndex()} and {@link #updateHasNext()} internally.
+         *
+         * @param end the iteration end index.
+         */
+        @Override
+        public void setEndIndex(final int end) {
+            this.end = end;
+            validateEndIndex();
+            updateHasNext();
+        }
+
+        /**
+         * Sets the iteration index.
+         * <p/>
+         * This implementation calls {@link #updateHasNext()} internally.
+         *
+         * @param index the iteration index.
+         */
+        @Override
+        public void setIndex(final int index) {
+            i = index;
+            updateHasNext();
+        }
+
+        /**
+         * Sets the iteration start index. (inclusive)
+         * <p/>
+         * This implementation calls {@link #validateStartIndex()} and {@link #updateHasNext()} internally.
+         *
+         * @param start the iteration start index.
+         */
+        @Override
+        public void setStartIndex(final int start) {
+            this.start = start;
+            validateStartIndex();
+            updateHasNext();
+        }
+    }
+
+    /**
+     * {@code LongBinaryFinder} is an implementation of a primitive finder that searches a sorted {@code long} array in a binary search manner.
+     * <p/>
+     * The finder always finds the first of the equal elements within the search bounds, so iterating the finder enumerates all equal elements in order.
+     * If the item is not found, {@link #indexOf()} returns {@code -(insertion point) - 1}, in the same way as {@link java.util.Arrays#binarySearch(long[], long)}.
+     *
+     * @see PrimitiveFinder
+     *
+     * @since 1.8
+     * @author Alireza Kamran
+     */
+    public static
+    class LongBinaryFinder
+    extends PrimitiveFinder<Long>
+    {
+        /** The sorted array. */
+        protected final
+        long[] array;
+
+        /** The comparator. */
+        protected final
+        LongComparator comparator;
+
+        /** The array sort order. */
+        protected final
+        boolean ascending;
+
+        /** The item. */
+        protected
+        long item;
+
+        /**
+         * Creates a binary finder with the specified item and array sorted in natural order.
+         *
+         * @param item the finder item.
+         * @param array the sorted array.
+         *
+         * @throws IllegalArgumentException if the array is null.
+         */
+        public
+        LongBinaryFinder(
+            final long item,
+            final long[] array
+            ) {
+            this(item, array, true, LongComparator.Natural);
+        }
+
+        /**
+         * Creates a binary finder with the specified item, sorted array, and comparator.
+         * <p/>
+         * This constructor automatically sets the ascending flag by comparing the first and last array elements.
+         *
+         * @param item the finder item.
+         * @param array the sorted array.
+         * @param comparator the comparator.
+         *
+         * @throws IllegalArgumentException if the array or comparator is null.
+         */
+        public
+        LongBinaryFinder(
+            final long item,
+            final long[] array,
+            final LongComparator comparator
+            ) {
+            this(item, array, array == null || comparator == null || array.length < 2 || comparator.compare(array[0], array[array.length - 1]) <= 0, comparator);
+        }
+
+        /**
+         * Creates a binary finder with the specified item, sorted array, ascending flag, and comparator.
+         *
+         * @param item the finder item.
+         * @param array the sorted array.
+         * @param ascending the ascending flag.
+         * @param comparator the comparator.
+         *
+         * @throws IllegalArgumentException if the array or comparator is null.
+         */
+        public
+        LongBinaryFinder(
+            final long item,
+            final long[] array,
+            final boolean ascending,
+            final LongComparator comparator
+            ) {
+            if (array == null || comparator == null)
+                throw new IllegalArgumentException();
+
+            this.array = array;
+            this.comparator = comparator;
+            this.ascending = ascending;
+            this.item = item;
+            end = array.length;
+            reset();
+        }
+
+        /**
+         * {@inheritDoc}
+         *
+         * @param from the search start index.
+         *
+         * @return the first match index, or {@code -(insertion point) - 1}.
+         */
+        @Override
+        protected
+        int search(
+            final int from
+            ) {
+            int lo = from;
+            int hi = end;
+            while (lo < hi) {
+                final int mid = (lo + hi) >>> 1;
+                final int result = ascending
+                                   ? comparator.compare(array[mid], item)
+                                   : comparator.compare(item, array[mid]);
+                if (result < 0)
+                    lo = mid + 1;
+                else
+                    hi = mid;
+            }
+
+            return lo < end && comparator.compare(array[lo], item) == 0
+                   ? lo
+                   : -lo - 1;
+        }
+
+        @Override
+        protected
+        Long box(
+            final int index
+            ) {
+            return array[index];
+        }
+
+        @Override
+        protected
+        int length() {
+            return array.length;
+        }
+
+        @Override
+        protected
+        IntPredicate matcher() {
+            final long item = this.item;
+            return (final int k) -> comparator.compare(array[k], item) == 0;
+        }
+
+        /**
+         * Returns the finder item.
+         *
+         * @return the item.
+         */
+        public
+        long getItem() {
+            return item;
+        }
+
+        /**
+         * Sets the finder item and resets the iteration.
+         *
+         * @param item the item.
+         */
+        public
+        void setItem(
+            final long item
+            ) {
+            this.item = item;
+            reset();
+        }
+    }
+
+    /**
+     * {@code LongComparator} is a comparison function over primitive long values, which avoids boxing the compared values.
+     *
+     * @since 1.8
+     * @author Alireza Kamran
+     */
+    @FunctionalInterface
+    public
+    interface LongComparator
+    {
+        /** The natural order comparator. */
+        public static final
+        LongComparator Natural = Long::compare;
+
+        /**
+         * Compares the two values and returns a negative integer, zero, or a positive integer as the first value is less than, equal to, or greater than the second value.
+         *
+         * @param a the first value.
+         * @param b the second value.
+         *
+         * @return the comparison result.
+         */
+        int compare(
+            long a,
+            long b
+            );
+    }
+
+    /**
+     * {@code LongSequentialFinder} is an implementation of a primitive finder that iterates forward over a {@code long} array, one element at a time.
+     * If the item is not found, {@link #indexOf()} returns {@link PrimitiveFinder#NotFound}.
+     *
+     * @see PrimitiveFinder
+     *
+     * @since 1.8
+     * @author Alireza Kamran
+     */
+    public static
+    class LongSequentialFinder
+    extends PrimitiveFinder<Long>
+    {
+        /** The array. */
+        protected final
+        long[] array;
+
+        /** The comparator. */
+        protected final
+        LongComparator comparator;
+
+        /** The item. */
+        protected
+        long item;
+
+        /**
+         * Creates a sequential finder with the specified item and array, using the natural order.
+         *
+         * @param item the finder item.
+         * @param array the array.
+         *
+         * @throws IllegalArgumentException if the array is null.
+         */
+        public
+        LongSequentialFinder(
+            final long item,
+            final long[] array
+            ) {
+            this(item, array, LongComparator.Natural);
+        }
+
+        /**
+         * Creates a sequential finder with the specified item, array, and comparator.
+         *
+         * @param item the finder item.
+         * @param array the array.
+         * @param comparator the comparator.
+         *
+         * @throws IllegalArgumentException if the array or comparator is null.
+         */
+        public
+        LongSequentialFinder(
+            final long item,
+            final long[] array,
+            final LongComparator comparator
+            ) {
+            if (array == null || comparator == null)
+                throw new IllegalArgumentException();
+
+            this.array = array;
+            this.comparator = comparator;
+            this.item = item;
+            end = array.length;
+            reset();
+        }
+
+        /**
+         * {@inheritDoc}
+         *
+         * @param from the search start index.
+         *
+         * @return the first match index, or {@link PrimitiveFinder#NotFound}.
+         */
+        @Override
+        protected
+        int search(
+            final int from
+            ) {
+            for (int k = from; k < end; k++)
+                if (comparator.compare(item, array[k]) == 0)
+                    return k;
+
+            return NotFound;
+        }
+
+        @Override
+        protected
+        Long box(
+            final int index
+            ) {
+            return array[index];
+        }
+
+        @Override
+        protected
+        int length() {
+            return array.length;
+        }
+
+        @Override
+        protected
+        IntPredicate matcher() {
+            final long item = this.item;
+            return (final int k) -> comparator.compare(item, array[k]) == 0;
+        }
+
+        /**
+         * Returns the finder item.
+         *
+         * @return the item.
+         */
+        public
+        long getItem() {
+            return item;
+        }
+
+        /**
+         * Sets the finder item and resets the iteration.
+         *
+         * @param item the item.
+         */
+        public
+        void setItem(
+            final long item
+            ) {
+            this.item = item;
+            reset();
+        }
+    }
+
+    /**
+     * {@code PrimitiveFinder} is the base class for finders over primitive arrays, which compare elements with primitive comparators.
+     * <p/>
+     * Besides the boxed {@link system.data.Finder} contract, primitive finders provide {@link #indexOf()} and {@link #nextIndex()}, which return an {@code int} index, or a negative sentinel if no match is found, without allocating objects.
+     * <p/>
+     * Finders are not concurrent objects.
+     * If the underlying array changes while the finder is iterating through the elements, the result can be undetermined.
+     *
+     * @param <T> the boxed element type.
+     *
+     * @see system.data.Finder
+     *
+     * @since 1.8
+     * @author Alireza Kamran
+     */
+    public abstract static
+    class PrimitiveFinder<T>
+    implements system.data.Finder<T>
+    {
+        /** The index returned when no match is found. */
+        public static final
+        int NotFound = -1;
+
+        /** The "next match not searched" index. */
+        private static final
+        int Unsearched = Integer.MIN_VALUE;
+
+        /** The iteration lower bound. (inclusive) */
+        protected
+        int start;
+
+        /** The iteration upper bound. (exclusive) */
+        protected
+        int end;
+
+        /** The last found index. */
+        protected
+        int i;
+
+        /** The next search start index. */
         protected
-        void validateEndIndex() {
-            if (getEndIndex() > array.length)
-                setEndIndex(array.length);
-        }
+        int j;
 
-        /**
-         * Validates the iteration start index and resets it to zero if it is negative.
-         */
+        /** The pending next match index. */
+        private
+        int match;
+
+        /** The "element found" flag. */
         protected
-        void validateStartIndex() {
-            if (getStartIndex() < 0)
-                setStartIndex(0);
-        }
+        boolean found;
 
         /**
-         * Returns the comparator.
+         * Returns the index of the first match at or after the specified index and before the end index; or a negative value if there is no match.
          *
-         * @return the comparator.
-         */
-        public
-        Comparator<? super T> getComparator() {
-            return comparator;
-        }
-
-        /**
-         * Returns the iteration end index.
+         * @param from the search start index.
          *
-         * @return the iteration end index.
+         * @return the match index, or a negative value.
          */
-        public int getEndIndex() {
-            return end;
-        }
+        protected abstract
+        int search(int from);
 
         /**
-         * Returns the iteration index.
+         * Returns the array element at the specified index, boxed.
          *
-         * @return the iteration index.
+         * @param index the index.
+         *
+         * @return the boxed element.
          */
-        public int getIndex() {
-            return i;
-        }
+        protected abstract
+        T box(int index);
 
         /**
-         * Returns the finding type item.
+         * Returns the array length.
          *
-         * @return the item.
+         * @return the array length.
          */
-        public T getItem() {
-            return item;
-        }
+        protected abstract
+        int length();
 
         /**
-         * Returns the iteration start index.
+         * Returns a predicate that tests if the array element at an index matches the current item.
          *
-         * @return the iteration start index.
+         * @return the match predicate.
          */
-        public int getStartIndex() {
-            return start;
-        }
+        protected abstract
+        IntPredicate matcher();
 
         /**
-         * Sets and validates the comparator.
+         * Returns a spliterator over the indices of the array elements that match the item, within the iteration bounds.
          * <p/>
-         * This implementation calls {@link #validateComparator()} internally.
+         * The spliterator captures the item and bounds when it is created, and does not change the iteration of this finder.
+         * It splits the index range in halves, and can be traversed in parallel as long as the array is not changed.
          *
-         * @param comparator the comparator.
+         * @return the index spliterator.
          */
         public
-        void setComparator(
-            Comparator<? super T> comparator
-            ) {
-            this.comparator = comparator;
-            validateComparator();
+        Spliterator.OfInt indexSpliterator() {
+            return new IndexSpliterator(start, end, matcher());
         }
 
         /**
-         * Sets the iteration end index. (exclusive)
-         * <p/>
-         * This implementation calls {@link #validateEndIndex()} internally.
+         * Returns a spliterator over the boxed array elements that match the item, within the iteration bounds.
          *
-         * @param end the iteration end index.
+         * @return the element spliterator.
+         *
+         * @see #indexSpliterator()
          */
-        public void setEndIndex(final int end) {
-            this.end = end;
-            validateEndIndex();
+        @Override
+        public
+        Spliterator<T> spliterator() {
+            return new ElementSpliterator<>(indexSpliterator(), this::box);
         }
 
         /**
-         * Sets the finding type item.
+         * Returns a sequential or parallel stream of the indices of the array elements that match the item, within the iteration bounds.
          *
-         * @param item the item.
+         * @param parallel the flag indicating if the stream should be parallel.
+         *
+         * @return the stream of matching indices.
+         *
+         * @see #indexSpliterator()
          */
-        public void setItem(
-            final T item
+        public
+        IntStream indices(
+            final boolean parallel
             ) {
-            this.item = item;
+            return StreamSupport.intStream(indexSpliterator(), parallel);
         }
 
         /**
-         * Sets the iteration start index. (inclusive)
+         * Returns the index of the first match within the iteration bounds, or a negative value if there is no match.
          * <p/>
-         * This implementation calls {@link #validateStartIndex()} internally.
+         * This method does not change the iteration.
          *
-         * @param start the iteration start index.
+         * @return the match index, or a negative value.
          */
-        public void setStartIndex(final int start) {
-            this.start = start;
-            validateStartIndex();
+        public
+        int indexOf() {
+            return search(start);
         }
 
         /**
-         * Sets the iteration index.
+         * Advances the iteration to the next match and returns its index, or returns a negative value if there are no more matches.
          *
-         * @param index the iteration index.
+         * @return the next match index, or a negative value.
          */
-        public abstract
-        void setIndex(int index);
-    }
-
-    /**
-     * {@code Locator} classifies a specialized iterator over an array for locating elements within the array, using a {@link Comparator#compare(Object, Object)} method, and providing the position or the array element.
-     * <p/>
-     * Locators are not concurrent objects.
-     * If the underlying array changes while the locator is iterating through the elements, the result can be undetermined.
-     *
-     * @param <T> the array type.
-     *
-     * @see system.data.Locator
-     *
-     * @since 1.8
-     * @author Alireza Kamran
-     */
-    public abstract static
-    class Locator<T>
-    extends Finding<T>
-    implements system.data.Locator<T>
-    {
-        /** The "location found" flag. */
-        protected
-        boolean found;
+        public
+        int nextIndex() {
+            final int index = pending();
+            match = Unsearched;
+            if (index < 0)
+                return index;
 
-        /** The "next element exists" flag. */
-        protected
-        boolean hasNext;
+            found = true;
+            i = index;
+            j = index + 1;
+            return index;
+        }
 
         /**
-         * Creates a locator with the specified array and comparator.
-         * <p/>
-         * This constructor accepts null comparator with the promise that it will be set later on prior to locating an element.
-         *
-         * @param array the array.
-         * @param comparator the comparator.
+         * Returns the pending next match index, searching for it if necessary.
          *
-         * @throws IllegalArgumentException if the array is null.
+         * @return the next match index, or a negative value.
          */
-        public
-        Locator(
-            final T[] array,
-            final Comparator<? super T> comparator
-            ) {
-            super(array, comparator);
+        private
+        int pending() {
+            if (match == Unsearched)
+                match = j < end
+                        ? search(j)
+                        : NotFound;
+
+            return match;
+        }
+
+        /**
+         * Restarts the iteration from the start index.
+         */
+        protected
+        void reset() {
+            i = NotFound;
+            j = start;
+            match = Unsearched;
             found = false;
         }
 
@@ -2129,17 +4689,14 @@ class Lambda
          * <p/>
          * This implementation calls {@link #found()} internally.
          *
-         * @return the located array element.
+         * @return the found array element.
          *
-         * @throws NoSuchElementException if the array element is not located or the iteration has no more elements.
+         * @throws NoSuchElementException if the array element is not found or the iteration has no more elements.
          */
         @Override
         public T element() {
             found();
-            if (found)
-                return array[i];
-
-            throw new NoSuchElementException();
+            return box(i);
         }
 
         /**
@@ -2149,18 +4706,19 @@ class Lambda
          *
          * @param fallback the fallback.
          *
-         * @return the located array element or the fallback.
+         * @return the found array element or the fallback.
          */
         @Override
         public T element(final T fallback) {
-            found();
-            return found ? array[i] : fallback;
+            return nextIndex() < 0
+                   ? fallback
+                   : box(i);
         }
 
         /**
          * {@inheritDoc}
          *
-         * @return true if the locator element is found, and false otherwise.
+         * @return true if the finder element is found, and false otherwise.
          */
         @Override
         public boolean elementFound() {
@@ -2169,31 +4727,27 @@ class Lambda
 
         /**
          * {@inheritDoc}
-         * <p/>
-         * If the array or the comparator is null, the locator is returned immediately.
          *
-         * @return the advanced locator.
+         * @return the advanced finder.
+         *
+         * @throws NoSuchElementException if the iteration has no more elements.
          */
         @Override
-        public Locator<T> found() {
-            if (array == null || comparator == null)
-                return this;
+        public PrimitiveFinder<T> found() {
+            if (nextIndex() < 0)
+                throw new NoSuchElementException();
 
-            while (hasNext() && !next());
             return this;
         }
 
         /**
-         * Returns true if there are more elements in the iteration; otherwise returns false.
-         * <p/>
-         * This implementation calls {@link #updateHasNext()} internally.
+         * {@inheritDoc}
          *
-         * @return true if there are more elements in the iteration, and false otherwise.
+         * @return true if there are more matches in the iteration, and false otherwise.
          */
         @Override
         public boolean hasNext() {
-            updateHasNext();
-            return hasNext;
+            return pending() >= 0;
         }
 
         /**
@@ -2201,87 +4755,87 @@ class Lambda
          * <p/>
          * This implementation calls {@link #found()} internally.
          *
-         * @return the located array element index.
+         * @return the found array element index.
          *
-         * @throws NoSuchElementException if the array element is not located or the iteration has no more elements.
+         * @throws NoSuchElementException if the array element is not found or the iteration has no more elements.
          */
         @Override
         public Integer index() {
             found();
-            if (found)
-                return i;
-
-            throw new NoSuchElementException();
+            return i;
         }
 
         /**
          * {@inheritDoc}
-         * <p/>
-         * This implementation calls {@link #found()} internally.
          *
          * @param fallback the fallback.
          *
-         * @return the located array element index or the fallback.
+         * @return the found array element index or the fallback.
          */
         @Override
         public Integer index(final Integer fallback) {
-            found();
-            return found ? i : fallback;
+            return nextIndex() < 0
+                   ? fallback
+                   : i;
         }
 
         /**
-         * Returns true if the array element matching the item is found at the next location; otherwise returns false.
+         * Returns the array element at the next match; otherwise throws a {@code NoSuchElementException}.
          *
-         * @return true if the array element is found, and false otherwise.
+         * @return the found array element.
+         *
+         * @throws NoSuchElementException if the iteration has no more elements.
          */
         @Override
-        public abstract Boolean next();
+        public T next() {
+            return element();
+        }
 
         /**
-         * Updates the internal {@code hasNext} flag indicating if there are more elements in the iteration.
+         * Returns the iteration end index.
+         *
+         * @return the iteration end index.
          */
-        protected abstract
-        void updateHasNext();
+        public int getEndIndex() {
+            return end;
+        }
 
         /**
-         * Sets the iteration end index. (exclusive)
-         * <p/>
-         * This implementation calls {@link #validateEndIndex()} and {@link #updateHasNext()} internally.
+         * Returns the last found index, or {@link #NotFound} if no element is found yet.
          *
-         * @param end the iteration end index.
+         * @return the last found index.
          */
-        @Override
-        public void setEndIndex(final int end) {
-            this.end = end;
-            validateEndIndex();
-            updateHasNext();
+        public int getIndex() {
+            return i;
         }
 
         /**
-         * Sets the iteration index.
-         * <p/>
-         * This implementation calls {@link #updateHasNext()} internally.
+         * Returns the iteration start index.
          *
-         * @param index the iteration index.
+         * @return the iteration start index.
          */
-        @Override
-        public void setIndex(final int index) {
-            i = index;
-            updateHasNext();
+        public int getStartIndex() {
+            return start;
         }
 
         /**
-         * Sets the iteration start index. (inclusive)
-         * <p/>
-         * This implementation calls {@link #validateStartIndex()} and {@link #updateHasNext()} internally.
+         * Sets the iteration end index, resetting it to the array length if it is greater than that value, and restarts the iteration. (exclusive)
+         *
+         * @param end the iteration end index.
+         */
+        public void setEndIndex(final int end) {
+            this.end = Math.min(end, length());
+            reset();
+        }
+
+        /**
+         * Sets the iteration start index, resetting it to zero if it is negative, and restarts the iteration. (inclusive)
          *
          * @param start the iteration start index.
          */
-        @Override
         public void setStartIndex(final int start) {
-            this.start = start;
-            validateStartIndex();
-            updateHasNext();
+            this.start = Math.max(start, 0);
+            reset();
         }
     }
 
@@ -2769,6 +5323,17 @@ class Lambda
             return step;
         }
 
+        /**
+         * {@inheritDoc}
+         * <p/>
+         * This implementation visits the indices with the iteration step, in the same order as the iteration.
+         */
+        @Override
+        public
+        Spliterator.OfInt indexSpliterator() {
+            return indexSpliterator(step);
+        }
+
         /**
          * Sets the iteration step.
          *
@@ -2959,6 +5524,17 @@ class Lambda
             return step;
         }
 
+        /**
+         * {@inheritDoc}
+         * <p/>
+         * This implementation visits the indices with the iteration step, in the same order as the iteration.
+         */
+        @Override
+        public
+        Spliterator.OfInt indexSpliterator() {
+            return indexSpliterator(step);
+        }
+
         /**
          * Sets the iteration step.
          *
@@ -0,0 +1,725 @@
+package system.data;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.function.ToLongFunction;
+
+/**
+ * {@code Memory} is a multi-tier in-process cache, addressed by arbitrary object arrays.
+ * <p/>
+ * The first tier is an on-heap segmented LRU bounded by the total weight of its entries.
+ * New entries are admitted into the probation segment and are promoted to the protected segment when they are hit again; so entries that are only used once are evicted before entries that are used repeatedly.
+ * <p/>
+ * The second tier is optional and holds entries evicted from the heap tier, which weigh at least a threshold, as encoded bytes in direct buffers outside of the heap.
+ * Entries found in the second tier are decoded and moved back to the heap tier.
+ * <p/>
+ * Missing entries are loaded by the loader function of the cache.
+ * Concurrent misses on the same address are coalesced, so that the loader is called once and all callers receive the same loaded data, or the same exception if the loader fails.
+ * <p/>
+ * All methods in this class implementation are thread-safe.
+ *
+ * @since 1.8
+ * @author Alireza Kamran
+ */
+public
+class Memory
+implements Cache
+{
+    /** The default share of the heap tier capacity reserved for the protected segment, in percents. */
+    private static final
+    int ProtectedPercent = 80;
+
+    /** The loader function. */
+    protected final
+    Function<Object[], ?> loader;
+
+    /** The entry weigher. */
+    protected final
+    ToLongFunction<Object> weigher;
+
+    /** The heap tier capacity. */
+    protected final
+    long capacity;
+
+    /** The protected segment capacity. */
+    protected final
+    long protectedCapacity;
+
+    /** The probation segment, in access order. */
+    private final
+    LinkedHashMap<Address, Entry<?>> probation = new LinkedHashMap<>(16, 0.75f, true);
+
+    /** The protected segment, in access order. */
+    private final
+    LinkedHashMap<Address, Entry<?>> protection = new LinkedHashMap<>(16, 0.75f, true);
+
+    /** The probation segment weight. */
+    private
+    long probationWeight;
+
+    /** The protected segment weight. */
+    private
+    long protectionWeight;
+
+    /** The off-heap tier, or null. */
+    private final
+    OffHeap offHeap;
+
+    /** The loads in progress. */
+    private final
+    ConcurrentHashMap<Address, CompletableFuture<Entry<?>>> loading = new ConcurrentHashMap<>();
+
+    /** The cache statistics. */
+    protected final
+    Statistics statistics = new Statistics();
+
+    /**
+     * Creates a heap-only cache with the specified capacity, weigher and loader.
+     *
+     * @param capacity the heap tier capacity, in the unit of the weigher.
+     * @param weigher the entry weigher.
+     * @param loader the loader function.
+     */
+    public
+    Memory(
+        final long capacity,
+        final ToLongFunction<Object> weigher,
+        final Function<Object[], ?> loader
+        ) {
+        this(capacity, weigher, loader, 0, 0, null);
+    }
+
+    /**
+     * Creates a two-tier cache with the specified capacities, weigher, loader and off-heap codec.
+     * <p/>
+     * Entries evicted from the heap tier that weigh at least the specified threshold are encoded and kept in the off-heap tier.
+     *
+     * @param capacity the heap tier capacity, in the unit of the weigher.
+     * @param weigher the entry weigher.
+     * @param loader the loader function.
+     * @param offHeapCapacity the off-heap tier capacity, in bytes.
+     * @param offHeapThreshold the minimum weight of entries moved to the off-heap tier.
+     * @param codec the off-heap codec, or null for no off-heap tier.
+     * @throws IllegalArgumentException if any of the capacities is negative.
+     */
+    public
+    Memory(
+        final long capacity,
+        final ToLongFunction<Object> weigher,
+        final Function<Object[], ?> loader,
+        final long offHeapCapacity,
+        final long offHeapThreshold,
+        final Codec codec
+        ) {
+        if (capacity < 0 || offHeapCapacity < 0)
+            throw new IllegalArgumentException();
+
+        this.capacity = capacity;
+        this.weigher = weigher;
+        this.loader = loader;
+        protectedCapacity = capacity * ProtectedPercent / 100;
+        offHeap = codec == null
+                  ? null
+                  : new OffHeap(offHeapCapacity, offHeapThreshold, codec);
+    }
+
+    /**
+     * Loads the data at the specified address with the loader function, replacing any cached data at the address.
+     * <p/>
+     * If the address is already being loaded, this method waits for that load instead.
+     *
+     * @param address the address.
+     */
+    @Override
+    public
+    void load(
+        final Object... address
+        ) {
+        final Address key = new Address(address);
+        invalidate(key);
+        load(key);
+    }
+
+    /**
+     * Retrieves the cached data at the specified address, loading it if it is not in any tier.
+     *
+     * @param type the address.
+     * @return the cached data.
+     */
+    @Override
+    public
+    Data<?> retrieve(
+        final Object... type
+        ) {
+        final Address key = new Address(type);
+        Entry<?> entry = hit(key);
+        if (entry != null) {
+            statistics.hits.increment();
+            return entry;
+        }
+
+        statistics.misses.increment();
+        return load(key);
+    }
+
+    /**
+     * Removes the cached data at the specified address from all tiers.
+     *
+     * @param address the address.
+     */
+    public
+    void invalidate(
+        final Object... address
+        ) {
+        invalidate(new Address(address));
+    }
+
+    /**
+     * Removes all cached data from all tiers.
+     */
+    public synchronized
+    void clear() {
+        probation.clear();
+        protection.clear();
+        probationWeight = protectionWeight = 0;
+        if (offHeap != null)
+            offHeap.clear();
+    }
+
+    /**
+     * Returns the total weight of the entries in the heap tier.
+     *
+     * @return the heap tier weight.
+     */
+    public synchronized
+    long weight() {
+        return probationWeight + protectionWeight;
+    }
+
+    /**
+     * Returns the cache statistics.
+     *
+     * @return the statistics.
+     */
+    public
+    Statistics getStatistics() {
+        return statistics;
+    }
+
+    /**
+     * Looks up the entry in the heap tier and then in the off-heap tier, updating the segments, and returns it or null if not found.
+     *
+     * @param key the address.
+     * @return the entry, or null.
+     */
+    private synchronized
+    Entry<?> hit(
+        final Address key
+        ) {
+        Entry<?> entry = protection.get(key);
+        if (entry != null)
+            return entry;
+
+        entry = probation.remove(key);
+        if (entry != null) {
+            probationWeight -= entry.weight;
+            protection.put(key, entry);
+            protectionWeight += entry.weight;
+            while (protectionWeight > protectedCapacity && protection.size() > 1) {
+                final Iterator<Map.Entry<Address, Entry<?>>> iterator = protection.entrySet().iterator();
+                final Map.Entry<Address, Entry<?>> eldest = iterator.next();
+                iterator.remove();
+                protectionWeight -= eldest.getValue().weight;
+                probation.put(eldest.getKey(), eldest.getValue());
+                probationWeight += eldest.getValue().weight;
+            }
+
+            return entry;
+        }
+
+        if (offHeap != null) {
+            final Object value = offHeap.remove(key);
+            if (value != null) {
+                statistics.offHeapHits.increment();
+                entry = new Entry<>(value, weigher.applyAsLong(value));
+                admit(key, entry);
+                return entry;
+            }
+        }
+
+        return null;
+    }
+
+    /**
+     * Loads the entry with the loader function, coalescing concurrent loads of the same address, and admits it to the heap tier.
+     * <p/>
+     * The caller that starts the load checks the tiers again first, since a concurrent load of the same address may have finished after the caller missed.
+     * The callers that wait for a concurrent load receive the exception thrown by the loader, unwrapped.
+     *
+     * @param key the address.
+     * @return the loaded entry.
+     */
+    private
+    Entry<?> load(
+        final Address key
+        ) {
+        final CompletableFuture<Entry<?>> future = new CompletableFuture<>();
+        final CompletableFuture<Entry<?>> existing = loading.putIfAbsent(key, future);
+        if (existing != null)
+            try {
+                return existing.join();
+            }
+            catch (CompletionException e) {
+                if (e.getCause() instanceof RuntimeException)
+                    throw (RuntimeException) e.getCause();
+                if (e.getCause() instanceof Error)
+                    throw (Error) e.getCause();
+
+                throw e;
+            }
+
+        try {
+            final Entry<?> loaded = hit(key);
+            if (loaded != null) {
+                future.complete(loaded);
+                return loaded;
+            }
+
+            final Object value = loader.apply(key.address);
+            final Entry<?> entry = new Entry<>(value, weigher.applyAsLong(value));
+            statistics.loads.increment();
+            synchronized (this) {
+                admit(key, entry);
+            }
+
+            future.complete(entry);
+            return entry;
+        }
+        catch (RuntimeException | Error e) {
+            statistics.loadFailures.increment();
+            future.completeExceptionally(e);
+            throw e;
+        }
+        finally {
+            loading.remove(key, future);
+        }
+    }
+
+    /**
+     * Admits the entry to the probation segment and evicts entries until the heap tier fits in its capacity.
+     * <p/>
+     * This method must be called while holding the cache lock.
+     *
+     * @param key the address.
+     * @param entry the entry.
+     */
+    private
+    void admit(
+        final Address key,
+        final Entry<?> entry
+        ) {
+        remove(key);
+        probation.put(key, entry);
+        probationWeight += entry.weight;
+        while (probationWeight + protectionWeight > capacity) {
+            final LinkedHashMap<Address, Entry<?>> segment = probation.isEmpty()
+                                                             ? protection
+                                                             : probation;
+            final Iterator<Map.Entry<Address, Entry<?>>> iterator = segment.entrySet().iterator();
+            final Map.Entry<Address, Entry<?>> eldest = iterator.next();
+            iterator.remove();
+            if (segment == probation)
+                probationWeight -= eldest.getValue().weight;
+            else
+                protectionWeight -= eldest.getValue().weight;
+
+            statistics.evictions.increment();
+            if (offHeap != null && eldest.getValue().weight >= offHeap.threshold)
+                offHeap.put(eldest.getKey(), eldest.getValue().value);
+        }
+    }
+
+    /**
+     * Removes the entry from the heap tier segments.
+     * <p/>
+     * This method must be called while holding the cache lock.
+     *
+     * @param key the address.
+     */
+    private
+    void remove(
+        final Address key
+        ) {
+        Entry<?> entry = probation.remove(key);
+        if (entry != null)
+            probationWeight -= entry.weight;
+
+        entry = protection.remove(key);
+        if (entry != null)
+            protectionWeight -= entry.weight;
+    }
+
+    /**
+     * Removes the entry from all tiers.
+     *
+     * @param key the address.
+     */
+    private synchronized
+    void invalidate(
+        final Address key
+        ) {
+        remove(key);
+        if (offHeap != null)
+            offHeap.remove(key);
+    }
+
+    /**
+     * {@code Address} is a cache key that compares object arrays by their elements.
+     *
+     * @since 1.8
+     * @author Alireza Kamran
+     */
+    private static final
+    class Address
+    {
+        /** The address elements. */
+        final
+        Object[] address;
+
+        /** The hash code. */
+        private final
+        int hash;
+
+        /**
+         * Creates an address with the specified elements.
+         *
+         * @param address the elements.
+         */
+        Address(
+            final Object[] address
+            ) {
+            this.address = address;
+            hash = Arrays.deepHashCode(address);
+        }
+
+        @Override
+        public
+        boolean equals(
+            final Object obj
+            ) {
+            return obj instanceof Address &&
+                   Arrays.deepEquals(address, ((Address) obj).address);
+        }
+
+        @Override
+        public
+        int hashCode() {
+            return hash;
+        }
+    }
+
+    /**
+     * {@code Codec} classifies the encoders and decoders of cached data into and from bytes for the off-heap tier.
+     *
+     * @since 1.8
+     * @author Alireza Kamran
+     */
+    public
+    interface Codec
+    {
+        /**
+         * Encodes the value into a byte buffer, positioned at zero with its limit at the end of the data.
+         *
+         * @param value the value.
+         * @return the encoded bytes.
+         */
+        public
+        ByteBuffer encode(
+            Object value
+            );
+
+        /**
+         * Decodes and returns the value from the byte buffer.
+         *
+         * @param buffer the encoded bytes.
+         * @return the value.
+         */
+        public
+        Object decode(
+            ByteBuffer buffer
+            );
+    }
+
+    /**
+     * {@code Entry} is a cached value with its weight.
+     *
+     * @param <T> the data type.
+     *
+     * @since 1.8
+     * @author Alireza Kamran
+     */
+    protected static final
+    class Entry<T>
+    implements Data<T>
+    {
+        /** The value. */
+        final
+        T value;
+
+        /** The weight. */
+        final
+        long weight;
+
+        /**
+         * Creates an entry with the specified value and weight.
+         *
+         * @param value the value.
+         * @param weight the weight.
+         */
+        Entry(
+            final T value,
+            final long weight
+            ) {
+            this.value = value;
+            this.weight = weight;
+        }
+
+        @Override
+        public
+        T get() {
+            return value;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public
+        Class<? extends T> getType() {
+            return value == null
+                   ? null
+                   : (Class<? extends T>) value.getClass();
+        }
+    }
+
+    /**
+     * {@code OffHeap} is the off-heap tier that keeps encoded values in direct byte buffers, in LRU order.
+     * <p/>
+     * This class is guarded by the lock of the enclosing cache.
+     *
+     * @since 1.8
+     * @author Alireza Kamran
+     */
+    private static final
+    class OffHeap
+    {
+        /** The buffers, in access order. */
+        final
+        LinkedHashMap<Address, ByteBuffer> buffers = new LinkedHashMap<>(16, 0.75f, true);
+
+        /** The capacity, in bytes. */
+        final
+        long capacity;
+
+        /** The minimum weight of admitted entries. */
+        final
+        long threshold;
+
+        /** The codec. */
+        final
+        Codec codec;
+
+        /** The total size of the buffers, in bytes. */
+        long size;
+
+        /**
+         * Creates an off-heap tier with the specified capacity, threshold and codec.
+         *
+         * @param capacity the capacity.
+         * @param threshold the minimum weight.
+         * @param codec the codec.
+         */
+        OffHeap(
+            final long capacity,
+            final long threshold,
+            final Codec codec
+            ) {
+            this.capacity = capacity;
+            this.threshold = threshold;
+            this.codec = codec;
+        }
+
+        /**
+         * Encodes and puts the value in the tier, evicting least recently used buffers if needed.
+         * Values larger than the capacity are dropped.
+         *
+         * @param key the address.
+         * @param value the value.
+         */
+        void put(
+            final Address key,
+            final Object value
+            ) {
+            final ByteBuffer encoded = codec.encode(value);
+            final int length = encoded.remaining();
+            if (length > capacity)
+                return;
+
+            remove(key);
+            final ByteBuffer buffer = ByteBuffer.allocateDirect(length);
+            buffer.put(encoded).flip();
+            buffers.put(key, buffer);
+            size += length;
+            final Iterator<ByteBuffer> iterator = buffers.values().iterator();
+            while (size > capacity) {
+                size -= iterator.next().capacity();
+                iterator.remove();
+            }
+        }
+
+        /**
+         * Removes and decodes the value from the tier, and returns it or null if not found.
+         *
+         * @param key the address.
+         * @return the value, or null.
+         */
+        Object remove(
+            final Address key
+            ) {
+            final ByteBuffer buffer = buffers.remove(key);
+            if (buffer == null)
+                return null;
+
+            size -= buffer.capacity();
+            return codec.decode(buffer.duplicate());
+        }
+
+        /**
+         * Removes all buffers from the tier.
+         */
+        void clear() {
+            buffers.clear();
+            size = 0;
+        }
+    }
+
+    /**
+     * {@code Statistics} holds the hit, miss, load and eviction counters of the cache.
+     *
+     * @since 1.8
+     * @author Alireza Kamran
+     */
+    public static final
+    class Statistics
+    {
+        /** The heap and off-heap hits. */
+        final
+        LongAdder hits = new LongAdder();
+
+        /** The off-heap hits. */
+        final
+        LongAdder offHeapHits = new LongAdder();
+
+        /** The misses. */
+        final
+        LongAdder misses = new LongAdder();
+
+        /** The successful loads. */
+        final
+        LongAdder loads = new LongAdder();
+
+        /** The failed loads. */
+        final
+        LongAdder loadFailures = new LongAdder();
+
+        /** The heap tier evictions. */
+        final
+        LongAdder evictions = new LongAdder();
+
+        /**
+         * Returns the number of hits.
+         *
+         * @return the hits.
+         */
+        public
+        long getHits() {
+            return hits.sum();
+        }
+
+        /**
+         * Returns the number of hits in the off-heap tier.
+         *
+         * @return the off-heap hits.
+         */
+        public
+        long getOffHeapHits() {
+            return offHeapHits.sum();
+        }
+
+        /**
+         * Returns the number of misses.
+         *
+         * @return the misses.
+         */
+        public
+        long getMisses() {
+            return misses.sum();
+        }
+
+        /**
+         * Returns the number of successful loads.
+         *
+         * @return the loads.
+         */
+        public
+        long getLoads() {
+            return loads.sum();
+        }
+
+        /**
+         * Returns the number of failed loads.
+         *
+         * @return the failed loads.
+         */
+        public
+        long getLoadFailures() {
+            return loadFailures.sum();
+        }
+
+        /**
+         * Returns the number of heap tier evictions.
+         *
+         * @return the evictions.
+         */
+        public
+        long getEvictions() {
+            return evictions.sum();
+        }
+
+        /**
+         * Returns the ratio of hits to all retrievals, or zero if there were none.
+         *
+         * @return the hit ratio.
+         */
+        public
+        double getHitRatio() {
+            final long hits = getHits();
+            final long total = hits + getMisses();
+            return total == 0
+                   ? 0
+                   : (double) hits / total;
+        }
+
+        @Override
+        public
+        String toString() {
+            return "hits=" + getHits() + ", offHeapHits=" + getOffHeapHits() + ", misses=" + getMisses() + ", loads=" + getLoads() + ", loadFailures=" + getLoadFailures() + ", evictions=" + getEvictions();
+        }
+    }
+}
@@ -0,0 +1,572 @@
+package system.data;
+
+import static system.data.Constant.DivisionByZero;
+import static system.data.Constant.ZeroDenominator;
+import static system.data.Constant.Fraction.DividerSym;
+
+import java.util.Arrays;
+
+/**
+ * {@code Rational} is an immutable representation of rational numbers, packed into a single {@code long} value.
+ * <p/>
+ * The numerator is held in the high 32 bits and the denominator in the low 32 bits of the packed value.
+ * Packed values are always reduced, and their denominators are always positive; so two rationals are equal if and only if their packed values are equal.
+ * <p/>
+ * The static methods of this class operate on packed values directly and do not allocate objects.
+ * Intermediate results are computed in {@code long} arithmetic and reduced before they are packed; an {@code ArithmeticException} is thrown if a reduced numerator or denominator does not fit in an {@code int}.
+ * <p/>
+ * Instances are obtained through the {@code valueOf(...)} methods, which return cached instances for common values, including all standard durations and tuplet ratios, and new instances for other values.
+ * The cache is read-only after class initialization, so the common values never lose their cached instances.
+ * Unlike {@link Fraction}, instances of this class are never modified, need no locking, and can be shared freely between threads.
+ *
+ * @since 1.8
+ * @author Alireza Kamran
+ */
+public final
+class Rational
+extends Number
+implements Comparable<Rational>
+{
+    /** The serial version UID. */
+    private static final
+    long serialVersionUID = 1L;
+
+    /** The packed values of the common rationals, in ascending order. */
+    private static final
+    long[] Common;
+
+    /** The common rationals, in the same order as their packed values. */
+    private static final
+    Rational[] Cache;
+
+    static {
+        final long[] common = new long[1 + 14 * 4 + 16 * 16];
+        int size = 0;
+        common[size++] = pack(0, 1);
+        for (int exponent = -3; exponent <= 10; exponent++) {
+            final long base = exponent < 0
+                              ? pack(1L << -exponent, 1)
+                              : pack(1, 1L << exponent);
+            common[size++] = base;
+            common[size++] = multiply(base, pack(3, 2));
+            common[size++] = multiply(base, pack(7, 4));
+            common[size++] = multiply(base, pack(15, 8));
+        }
+
+        for (int n = 1; n <= 16; n++)
+            for (int d = 1; d <= 16; d++)
+                common[size++] = pack(n, d);
+
+        Arrays.sort(common, 0, size);
+        int distinct = 0;
+        for (int i = 0; i < size; i++)
+            if (distinct == 0 || common[i] != common[distinct - 1])
+                common[distinct++] = common[i];
+
+        Common = Arrays.copyOf(common, distinct);
+        Cache = new Rational[distinct];
+        for (int i = 0; i < distinct; i++)
+            Cache[i] = new Rational(Common[i]);
+    }
+
+    /** The zero rational. */
+    public static final
+    Rational Zero = valueOf(0, 1);
+
+    /** The one rational. */
+    public static final
+    Rational One = valueOf(1, 1);
+
+    /** The packed value. */
+    private final
+    long packed;
+
+    /**
+     * Creates a rational with the specified packed value.
+     *
+     * @param packed the packed value.
+     */
+    private
+    Rational(
+        final long packed
+        ) {
+        this.packed = packed;
+    }
+
+    /**
+     * Returns the rational with the specified packed value, which is reduced and given a positive denominator if it is not already.
+     * <p/>
+     * The cached instance is returned for common values, and a new instance is created for other values.
+     *
+     * @param packed the packed value.
+     *
+     * @return the rational.
+     *
+     * @throws ArithmeticException if the denominator is zero, or the reduced numerator or denominator does not fit in an {@code int}.
+     */
+    public static
+    Rational valueOf(
+        final long packed
+        ) {
+        return of(pack(numerator(packed), denominator(packed)));
+    }
+
+    /**
+     * Returns the rational with the specified numerator and denominator, reduced.
+     *
+     * @param numerator the numerator.
+     * @param denominator the denominator.
+     *
+     * @return the rational.
+     *
+     * @throws ArithmeticException if the denominator is zero.
+     */
+    public static
+    Rational valueOf(
+        final int numerator,
+        final int denominator
+        ) {
+        return of(pack(numerator, denominator));
+    }
+
+    /**
+     * Returns the rational equal to the specified fraction.
+     *
+     * @param fraction the fraction.
+     *
+     * @return the rational.
+     *
+     * @throws NullPointerException if the fraction is null.
+     * @throws ArithmeticException if the fraction denominator is zero.
+     */
+    public static
+    Rational valueOf(
+        final Fraction fraction
+        ) {
+        return of(pack(fraction.getNumerator(), fraction.getDenominator()));
+    }
+
+    /**
+     * Reduces the specified numerator and denominator, gives the sign to the numerator, and returns the packed value.
+     *
+     * @param numerator the numerator.
+     * @param denominator the denominator.
+     *
+     * @return the packed value.
+     *
+     * @throws ArithmeticException if the denominator is zero, or the reduced numerator or denominator does not fit in an {@code int}.
+     */
+    public static
+    long pack(
+        long numerator,
+        long denominator
+        ) {
+        if (denominator == 0)
+            throw new ArithmeticException(ZeroDenominator);
+
+        if (numerator == 0)
+            return 1;
+
+        final long gcd = Lambda.gcd(Math.abs(numerator), Math.abs(denominator));
+        numerator /= gcd;
+        denominator /= gcd;
+        if (denominator < 0) {
+            numerator = -numerator;
+            denominator = -denominator;
+        }
+
+        return (long) Math.toIntExact(numerator) << 32 | Math.toIntExact(denominator);
+    }
+
+    /**
+     * Returns the numerator of the packed value.
+     *
+     * @param packed the packed value.
+     *
+     * @return the numerator.
+     */
+    public static
+    int numerator(
+        final long packed
+        ) {
+        return (int) (packed >> 32);
+    }
+
+    /**
+     * Returns the denominator of the packed value.
+     *
+     * @param packed the packed value.
+     *
+     * @return the denominator.
+     */
+    public static
+    int denominator(
+        final long packed
+        ) {
+        return (int) packed;
+    }
+
+    /**
+     * Returns the packed sum of the two packed values.
+     *
+     * @param a the first packed value.
+     * @param b the second packed value.
+     *
+     * @return the packed sum.
+     *
+     * @throws ArithmeticException if the result does not fit.
+     */
+    public static
+    long add(
+        final long a,
+        final long b
+        ) {
+        final long da = denominator(a);
+        final long db = denominator(b);
+        return da == db
+               ? pack((long) numerator(a) + numerator(b), da)
+               : pack(numerator(a) * db + numerator(b) * da, da * db);
+    }
+
+    /**
+     * Returns the packed difference of the two packed values.
+     *
+     * @param a the first packed value.
+     * @param b the second packed value.
+     *
+     * @return the packed difference.
+     *
+     * @throws ArithmeticException if the result does not fit.
+     */
+    public static
+    long subtract(
+        final long a,
+        final long b
+        ) {
+        final long da = denominator(a);
+        final long db = denominator(b);
+        return da == db
+               ? pack((long) numerator(a) - numerator(b), da)
+               : pack(numerator(a) * db - numerator(b) * da, da * db);
+    }
+
+    /**
+     * Returns the packed product of the two packed values.
+     *
+     * @param a the first packed value.
+     * @param b the second packed value.
+     *
+     * @return the packed product.
+     *
+     * @throws ArithmeticException if the result does not fit.
+     */
+    public static
+    long multiply(
+        final long a,
+        final long b
+        ) {
+        return pack((long) numerator(a) * numerator(b), (long) denominator(a) * denominator(b));
+    }
+
+    /**
+     * Returns the packed quotient of the two packed values.
+     *
+     * @param a the dividend packed value.
+     * @param b the divisor packed value.
+     *
+     * @return the packed quotient.
+     *
+     * @throws ArithmeticException if the divisor is zero, or the result does not fit.
+     */
+    public static
+    long divide(
+        final long a,
+        final long b
+        ) {
+        if (numerator(b) == 0)
+            throw new ArithmeticException(DivisionByZero);
+
+        return pack((long) numerator(a) * denominator(b), (long) denominator(a) * numerator(b));
+    }
+
+    /**
+     * Returns the packed negation of the packed value.
+     *
+     * @param a the packed value.
+     *
+     * @return the packed negation.
+     *
+     * @throws ArithmeticException if the result does not fit.
+     */
+    public static
+    long negate(
+        final long a
+        ) {
+        return (long) Math.negateExact(numerator(a)) << 32 | denominator(a);
+    }
+
+    /**
+     * Returns the packed reciprocal of the packed value.
+     *
+     * @param a the packed value.
+     *
+     * @return the packed reciprocal.
+     *
+     * @throws ArithmeticException if the value is zero, or the result does not fit.
+     */
+    public static
+    long invert(
+        final long a
+        ) {
+        if (numerator(a) == 0)
+            throw new ArithmeticException(DivisionByZero);
+
+        return pack(denominator(a), numerator(a));
+    }
+
+    /**
+     * Compares the two packed values numerically.
+     *
+     * @param a the first packed value.
+     * @param b the second packed value.
+     *
+     * @return a negative integer, zero, or a positive integer as the first value is less than, equal to, or greater than the second value.
+     */
+    public static
+    int compare(
+        final long a,
+        final long b
+        ) {
+        return a == b
+               ? 0
+               : Long.compare((long) numerator(a) * denominator(b), (long) numerator(b) * denominator(a));
+    }
+
+    /**
+     * Returns the {@code double} value of the packed value.
+     *
+     * @param a the packed value.
+     *
+     * @return the {@code double} value.
+     */
+    public static
+    double doubleValue(
+        final long a
+        ) {
+        return (double) numerator(a) / denominator(a);
+    }
+
+    /**
+     * Returns the cached rational with the specified reduced packed value if it is a common value, or a new rational otherwise.
+     * <p/>
+     * The cache is filled once when the class is initialized and is only read afterwards, so common values always have the same instances.
+     *
+     * @param packed the reduced packed value.
+     *
+     * @return the rational.
+     */
+    private static
+    Rational of(
+        final long packed
+        ) {
+        final int i = Arrays.binarySearch(Common, packed);
+        return i < 0
+               ? new Rational(packed)
+               : Cache[i];
+    }
+
+    /**
+     * Returns the sum of this rational and the specified rational.
+     *
+     * @param rational the rational.
+     *
+     * @return the sum.
+     *
+     * @throws ArithmeticException if the result does not fit.
+     */
+    public
+    Rational plus(
+        final Rational rational
+        ) {
+        return of(add(packed, rational.packed));
+    }
+
+    /**
+     * Returns the difference of this rational and the specified rational.
+     *
+     * @param rational the rational.
+     *
+     * @return the difference.
+     *
+     * @throws ArithmeticException if the result does not fit.
+     */
+    public
+    Rational minus(
+        final Rational rational
+        ) {
+        return of(subtract(packed, rational.packed));
+    }
+
+    /**
+     * Returns the product of this rational and the specified rational.
+     *
+     * @param rational the rational.
+     *
+     * @return the product.
+     *
+     * @throws ArithmeticException if the result does not fit.
+     */
+    public
+    Rational times(
+        final Rational rational
+        ) {
+        return of(multiply(packed, rational.packed));
+    }
+
+    /**
+     * Returns the quotient of this rational and the specified rational.
+     *
+     * @param rational the rational.
+     *
+     * @return the quotient.
+     *
+     * @throws ArithmeticException if the rational is zero, or the result does not fit.
+     */
+    public
+    Rational by(
+        final Rational rational
+        ) {
+        return of(divide(packed, rational.packed));
+    }
+
+    /**
+     * Returns the negation of this rational.
+     *
+     * @return the negation.
+     *
+     * @throws ArithmeticException if the result does not fit.
+     */
+    public
+    Rational negated() {
+        return of(negate(packed));
+    }
+
+    /**
+     * Returns the reciprocal of this rational.
+     *
+     * @return the reciprocal.
+     *
+     * @throws ArithmeticException if this rational is zero, or the result does not fit.
+     */
+    public
+    Rational inverted() {
+        return of(invert(packed));
+    }
+
+    /**
+     * Returns the canonical rational for the packed value of a deserialized rational.
+     *
+     * @return the rational.
+     *
+     * @throws ArithmeticException if the packed value has a zero denominator, or its reduced form does not fit.
+     */
+    private
+    Object readResolve() {
+        return valueOf(packed);
+    }
+
+    /**
+     * Returns a new fraction equal to this rational, with simplification set to off.
+     *
+     * @return the fraction.
+     *
+     * @throws ArithmeticException if the denominator does not fit in a {@code short}.
+     */
+    public
+    Fraction toFraction() {
+        final int denominator = denominator(packed);
+        if (denominator > Short.MAX_VALUE)
+            throw new ArithmeticException();
+
+        return new Fraction(numerator(packed), (short) denominator);
+    }
+
+    /**
+     * Returns the packed value.
+     *
+     * @return the packed value.
+     */
+    public
+    long packed() {
+        return packed;
+    }
+
+    /**
+     * Returns the numerator.
+     *
+     * @return the numerator.
+     */
+    public
+    int getNumerator() {
+        return numerator(packed);
+    }
+
+    /**
+     * Returns the denominator.
+     *
+     * @return the denominator.
+     */
+    public
+    int getDenominator() {
+        return denominator(packed);
+    }
+
+    @Override
+    public int compareTo(final Rational rational) {
+        return compare(packed, rational.packed);
+    }
+
+    @Override
+    public double doubleValue() {
+        return doubleValue(packed);
+    }
+
+    @Override
+    public boolean equals(final Object obj) {
+        return obj instanceof Rational &&
+               ((Rational) obj).packed == packed;
+    }
+
+    @Override
+    public float floatValue() {
+        return (float) doubleValue(packed);
+    }
+
+    @Override
+    public int hashCode() {
+        return Long.hashCode(packed);
+    }
+
+    @Override
+    public int intValue() {
+        return numerator(packed) / denominator(packed);
+    }
+
+    @Override
+    public long longValue() {
+        return numerator(packed) / denominator(packed);
+    }
+
+    /**
+     * Returns a string representation of the rational excluding the denominator when it is equal to 1.
+     *
+     * @return a simple string representation of the rational.
+     */
+    @Override
+    public String toString() {
+        final int denominator = denominator(packed);
+        return denominator > 1
+               ? Integer.toString(numerator(packed)) + DividerSym + Integer.toString(denominator)
+               : Integer.toString(numerator(packed));
+    }
+}